@@ -0,0 +1,100 @@
+package com.reviewduck.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합을 비트 배열로 근사하는 블룸 필터. 넣은 값은 항상 포함된다고 답하고, 넣지 않은 값은 일정 확률로만 잘못 포함된다고 답한다.
+ * 비트는 원자적으로 켜므로 여러 스레드에서 동시에 넣고 조회할 수 있다.
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        validate(expectedInsertions, falsePositiveProbability);
+        long optimalBitSize = (long)Math.ceil(
+            -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int)((optimalBitSize + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long)wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    private void validate(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 원소 수는 양수여야 합니다.");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("오탐 확률은 0과 1 사이여야 합니다.");
+        }
+    }
+
+    public void put(String value) {
+        long hash = fnv1a(value);
+        long first = mix(hash);
+        long second = mix(hash ^ first) | 1;
+        for (int index = 0; index < hashCount; index++) {
+            setBit(Math.floorMod(first + index * second, bitSize));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = fnv1a(value);
+        long first = mix(hash);
+        long second = mix(hash ^ first) | 1;
+        for (int index = 0; index < hashCount; index++) {
+            if (!getBit(Math.floorMod(first + index * second, bitSize))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int)(bitIndex / Long.SIZE);
+        long mask = 1L << (bitIndex % Long.SIZE);
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    private boolean getBit(long bitIndex) {
+        long mask = 1L << (bitIndex % Long.SIZE);
+        return (words.get((int)(bitIndex / Long.SIZE)) & mask) != 0;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // 비슷한 코드끼리 같은 비트에 몰리지 않도록 splitmix64 로 비트를 섞는다.
+    private static long mix(long value) {
+        long mixed = value + 0x9e3779b97f4a7c15L;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xbf58476d1ce4e5b9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+}
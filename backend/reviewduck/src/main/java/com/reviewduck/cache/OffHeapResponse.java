@@ -0,0 +1,20 @@
+package com.reviewduck.cache;
+
+import java.nio.ByteBuffer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+class OffHeapResponse {
+
+    private final ByteBuffer buffer;
+    private final int identityLength;
+    private final long updatedAt;
+    private final int version;
+
+    int getSize() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,93 @@
+package com.reviewduck.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reviewduck.repository.ReviewFormRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 존재하는 회고 폼 코드를 블룸 필터로 들고 있다.
+ * 시작할 때 전체 코드를 한 번 읽어 채우며, 다 채우기 전에는 모든 코드를 있을 수 있는 코드로 본다.
+ * 다른 서버에서 저장된 코드는 필터에 없을 수 있으므로, 필터로 없다고 볼 수 있는 것은 시작할 때 모두 채워지는 이전 방식 코드뿐이다.
+ * 새 방식 코드는 번호 발급기가 아직 나누어 주지 않은 번호인지로 판단한다. 발급기 값은 주기적으로 다시 읽고,
+ * 그 사이에 다른 서버가 발급할 수 있는 번호만큼 여유를 두며, 오래 읽지 못했으면 판단하지 않는다.
+ */
+@Component
+@Slf4j
+public class ReviewFormCodeFilter {
+
+    private static final long EXPECTED_CODES = 1_000_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private static final long NEXT_ID_REFRESH_INTERVAL_MILLIS = 1_000;
+    private static final long NEXT_ID_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long ISSUABLE_IDS_BETWEEN_REFRESHES = 50_000;
+
+    private final ReviewFormRepository reviewFormRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BloomFilter codes = new BloomFilter(EXPECTED_CODES, FALSE_POSITIVE_PROBABILITY);
+    private volatile boolean loaded = false;
+    private volatile NextId nextId;
+
+    public ReviewFormCodeFilter(ReviewFormRepository reviewFormRepository, JdbcTemplate jdbcTemplate) {
+        this.reviewFormRepository = reviewFormRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long count;
+        try (Stream<String> savedCodes = reviewFormRepository.streamAllCodes()) {
+            count = savedCodes.peek(codes::put).count();
+        }
+        loaded = true;
+        log.info("회고 폼 코드 필터를 채웠습니다. codes = {}, bits = {}", count, codes.getBitSize());
+        refreshNextId();
+    }
+
+    // pooled-lo 는 저장된 값보다 작은 번호만 나누어 주므로, 이 값 이상의 번호는 어느 서버에서도 발급된 적이 없다.
+    // 엔티티와 무관한 값이라 JPA 를 거치지 않고 읽는다.
+    @Scheduled(initialDelay = NEXT_ID_REFRESH_INTERVAL_MILLIS, fixedDelay = NEXT_ID_REFRESH_INTERVAL_MILLIS)
+    public void refreshNextId() {
+        jdbcTemplate.queryForList("select next_val from id_generator where sequence_name = 'review_form'", Long.class)
+            .stream()
+            .findFirst()
+            .ifPresent(value -> nextId = new NextId(value, System.nanoTime()));
+    }
+
+    public void add(String code) {
+        codes.put(code);
+    }
+
+    public boolean mightExist(String code) {
+        return !loaded || codes.mightContain(code);
+    }
+
+    public boolean isNeverIssued(long id) {
+        NextId current = nextId;
+        if (current == null || System.nanoTime() - current.getReadNanos() > NEXT_ID_MAX_AGE_NANOS) {
+            return false;
+        }
+        return id >= current.getValue() + ISSUABLE_IDS_BETWEEN_REFRESHES;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class NextId {
+
+        private final long value;
+        private final long readNanos;
+    }
+}
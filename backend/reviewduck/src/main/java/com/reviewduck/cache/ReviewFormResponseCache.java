@@ -0,0 +1,115 @@
+package com.reviewduck.cache;
+
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.reviewduck.dto.response.ReviewFormResponse;
+import com.reviewduck.service.ReviewFormDeletedEvent;
+import com.reviewduck.service.ReviewFormUpdatedEvent;
+
+/**
+ * 직렬화와 gzip 압축을 마친 회고 폼 응답을 코드별로 보관하고, 수정 시각이 같을 때만 돌려준다.
+ * 새로 읽은 응답은 조회를 시작할 때 알던 수정 시각이 아니라 읽은 응답의 수정 시각으로 보관하므로,
+ * 검증자와 버전은 돌려받은 응답의 값으로 만들어야 한다.
+ * 자주 조회되는 응답은 힙에 두고, 힙에서 밀려난 응답은 크기가 제한된 다이렉트 버퍼로 옮겨 두었다가 다시 조회되면 힙으로 올린다.
+ */
+@Component
+public class ReviewFormResponseCache {
+
+    private static final int MAXIMUM_HEAP_ENTRIES = 256;
+    private static final long MAXIMUM_OFF_HEAP_BYTES = 64L * 1024 * 1024;
+    private static final String VERSION_DELIMITER = "@";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, OffHeapResponse> offHeapResponses;
+    private final Cache<String, SerializedResponse> heapResponses;
+
+    public ReviewFormResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.offHeapResponses = Caffeine.newBuilder()
+            .executor(Runnable::run)
+            .maximumWeight(MAXIMUM_OFF_HEAP_BYTES)
+            .weigher((String code, OffHeapResponse response) -> response.getSize())
+            .build();
+        this.heapResponses = Caffeine.newBuilder()
+            .executor(Runnable::run)
+            .maximumSize(MAXIMUM_HEAP_ENTRIES)
+            .removalListener((String code, SerializedResponse response, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE) {
+                    offHeapResponses.put(code, response.toOffHeap());
+                }
+            })
+            .build();
+    }
+
+    public SerializedResponse get(String code, long updatedAt, Supplier<ReviewFormResponse> loader) {
+        return get(code, cachedUpdatedAt -> cachedUpdatedAt == updatedAt, loader);
+    }
+
+    // 버전별 응답은 바뀌지 않으므로 수정 시각을 비교하지 않는다.
+    public SerializedResponse getVersion(String code, int version, Supplier<ReviewFormResponse> loader) {
+        return get(code + VERSION_DELIMITER + version, cachedUpdatedAt -> true, loader);
+    }
+
+    private SerializedResponse get(String key, LongPredicate isFresh, Supplier<ReviewFormResponse> loader) {
+        SerializedResponse response = heapResponses.getIfPresent(key);
+        if (response != null && isFresh.test(response.getUpdatedAt())) {
+            return response;
+        }
+
+        OffHeapResponse offHeapResponse = offHeapResponses.getIfPresent(key);
+        if (offHeapResponse != null) {
+            offHeapResponses.invalidate(key);
+            if (isFresh.test(offHeapResponse.getUpdatedAt())) {
+                return cache(key, SerializedResponse.fromOffHeap(offHeapResponse));
+            }
+        }
+
+        return cache(key, serialize(loader.get()));
+    }
+
+    private SerializedResponse serialize(ReviewFormResponse response) {
+        try {
+            return SerializedResponse.of(objectMapper.writeValueAsBytes(response), response.getUpdatedAt(),
+                response.getVersion());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("회고 폼 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private SerializedResponse cache(String code, SerializedResponse response) {
+        heapResponses.put(code, response);
+        return response;
+    }
+
+    public void evict(String code) {
+        heapResponses.invalidate(code);
+        offHeapResponses.invalidate(code);
+    }
+
+    public void evictAllVersions(String code) {
+        String versionPrefix = code + VERSION_DELIMITER;
+        heapResponses.asMap().keySet().removeIf(key -> key.equals(code) || key.startsWith(versionPrefix));
+        offHeapResponses.asMap().keySet().removeIf(key -> key.equals(code) || key.startsWith(versionPrefix));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFormUpdated(ReviewFormUpdatedEvent event) {
+        evict(event.getCode());
+    }
+
+    // 버전별 응답은 바뀌지 않는다고 보고 캐시하므로, 회고 폼이 지워지면 함께 지운다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFormDeleted(ReviewFormDeletedEvent event) {
+        evictAllVersions(event.getCode());
+    }
+}
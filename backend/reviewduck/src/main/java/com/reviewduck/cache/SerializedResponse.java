@@ -0,0 +1,57 @@
+package com.reviewduck.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class SerializedResponse {
+
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final long updatedAt;
+    private final int version;
+
+    public static SerializedResponse of(byte[] json, long updatedAt, int version) {
+        return new SerializedResponse(json, compress(json), updatedAt, version);
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    public byte[] getBody(boolean gzipped) {
+        if (gzipped) {
+            return gzip;
+        }
+        return identity;
+    }
+
+    OffHeapResponse toOffHeap() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(identity.length + gzip.length);
+        buffer.put(identity).put(gzip).flip();
+        return new OffHeapResponse(buffer.asReadOnlyBuffer(), identity.length, updatedAt, version);
+    }
+
+    static SerializedResponse fromOffHeap(OffHeapResponse offHeapResponse) {
+        ByteBuffer buffer = offHeapResponse.getBuffer().duplicate();
+        byte[] identity = new byte[offHeapResponse.getIdentityLength()];
+        byte[] gzip = new byte[buffer.remaining() - identity.length];
+        buffer.get(identity).get(gzip);
+        return new SerializedResponse(identity, gzip, offHeapResponse.getUpdatedAt(),
+            offHeapResponse.getVersion());
+    }
+}
@@ -0,0 +1,79 @@
+package com.reviewduck.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나로 합친다.
+ * 먼저 들어온 요청만 loader 를 실행하고, 실행 중에 들어온 요청은 그 결과나 예외를 그대로 나누어 받는다.
+ * 완료된 결과는 보관하지 않으므로 캐시가 아니라 동시에 몰린 요청만 합친다.
+ * 데이터가 바뀌면 forget 으로 진행 중인 조회에서 키를 떼어, 이후 요청이 바뀌기 전에 시작한 조회에 합류하지 않게 한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlights = new ConcurrentHashMap<>();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> inFlight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlights.putIfAbsent(key, inFlight);
+        if (running != null) {
+            coalescedCount.increment();
+            return join(running);
+        }
+
+        loadCount.increment();
+        try {
+            V value = loader.get();
+            inFlight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            inFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(key, inFlight);
+        }
+    }
+
+    // 떼어 낸 조회는 이미 기다리던 요청에게만 결과를 주고, 끝나도 새로 시작한 조회를 지우지 않는다.
+    public void forget(Predicate<K> keys) {
+        inFlights.keySet().removeIf(keys);
+    }
+
+    private V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error)e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public double getCoalescingRatio() {
+        long coalesced = getCoalescedCount();
+        long total = getLoadCount() + coalesced;
+        if (total == 0) {
+            return 0;
+        }
+        return (double)coalesced / total;
+    }
+}
@@ -0,0 +1,21 @@
+package com.reviewduck.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.reviewduck.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableMBeanExport;
+import org.springframework.jmx.support.RegistrationPolicy;
+
+// 테스트처럼 한 JVM 에 컨텍스트가 여러 개 뜨면 같은 이름의 MBean 을 덮어쓴다.
+@Configuration
+@EnableMBeanExport(registration = RegistrationPolicy.REPLACE_EXISTING)
+public class JmxConfig {
+}
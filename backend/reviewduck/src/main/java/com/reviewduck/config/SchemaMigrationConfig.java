@@ -0,0 +1,27 @@
+package com.reviewduck.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto", havingValue = "none")
+public class SchemaMigrationConfig {
+
+    private static final String MIGRATION_LOCATION = "classpath:database/migration";
+    // Version4_init.sql 은 데이터베이스를 새로 만드는 스크립트이므로 그 이후부터 자동으로 적용한다.
+    private static final int BASELINE_VERSION = 4;
+
+    @Bean(initMethod = "migrate")
+    public SchemaMigrator schemaMigrator(DataSource dataSource) {
+        return new SchemaMigrator(dataSource, MIGRATION_LOCATION, BASELINE_VERSION);
+    }
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor("schemaMigrator");
+    }
+}
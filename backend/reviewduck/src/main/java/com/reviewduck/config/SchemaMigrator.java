@@ -0,0 +1,267 @@
+package com.reviewduck.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * location 아래의 Version{번호}_{설명}.sql 스크립트를 번호 순서대로 한 번씩 적용한다.
+ * 적용한 스크립트는 체크섬과 함께 이력 테이블에 남기고, 이미 적용한 스크립트의 내용이 바뀌면 기동을 중단한다.
+ * baselineVersion 이하의 스크립트는 수동으로 적용된 것으로 보고 실행하지 않는다.
+ * 여러 서버가 함께 기동해도 한 서버만 적용하도록 잠금 행을 잡은 채로 실행하며, 스크립트마다 이력과 함께 한 트랜잭션으로 적용한다.
+ * MySQL 처럼 DDL 이 바로 커밋되는 데이터베이스에서는 DDL 앞의 문장까지만 되돌려지므로, 스크립트는 다시 실행해도 되게 작성한다.
+ * location/precondition/Version{번호}.sql 에 조회 쿼리 하나가 있으면 그 스크립트를 적용하기 전에 실행해, 결과가 한 행이라도 있으면 기동을 중단한다.
+ */
+@Slf4j
+public class SchemaMigrator {
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("Version(\\d+)_(\\w+)\\.sql");
+    private static final String[] COMMENT_PREFIXES = {"--", "#"};
+    private static final String HISTORY_TABLE = "schema_migration_history";
+    private static final String LOCK_TABLE = "schema_migration_lock";
+    private static final int LOCK_ID = 1;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String location;
+    private final int baselineVersion;
+
+    public SchemaMigrator(DataSource dataSource, String location, int baselineVersion) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.location = location;
+        this.baselineVersion = baselineVersion;
+    }
+
+    public void migrate() {
+        createHistoryTableIfAbsent();
+        createLockIfAbsent();
+
+        // 잠금은 DDL 을 실행하지 않는 별도 커넥션의 트랜잭션으로 잡아, 스크립트의 DDL 이 커밋되어도 풀리지 않게 한다.
+        try (Connection lockConnection = dataSource.getConnection()) {
+            lockConnection.setAutoCommit(false);
+            try {
+                lock(lockConnection);
+                migrateLocked();
+            } finally {
+                lockConnection.rollback();
+                lockConnection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("마이그레이션 잠금을 잡을 수 없습니다.", e);
+        }
+    }
+
+    private void migrateLocked() {
+        Map<Integer, String> appliedChecksums = findAppliedChecksums();
+
+        for (MigrationScript script : findScripts()) {
+            if (script.getVersion() <= baselineVersion) {
+                continue;
+            }
+            if (appliedChecksums.containsKey(script.getVersion())) {
+                validateChecksum(script, appliedChecksums.get(script.getVersion()));
+                continue;
+            }
+            apply(script);
+        }
+    }
+
+    private void createHistoryTableIfAbsent() {
+        jdbcTemplate.execute("create table if not exists " + HISTORY_TABLE + " ("
+            + "version integer not null, "
+            + "description varchar(255) not null, "
+            + "checksum varchar(32) not null, "
+            + "applied_at timestamp default current_timestamp, "
+            + "primary key (version))");
+    }
+
+    private void createLockIfAbsent() {
+        jdbcTemplate.execute("create table if not exists " + LOCK_TABLE + " ("
+            + "id integer not null, "
+            + "primary key (id))");
+        Integer lockCount = jdbcTemplate.queryForObject("select count(*) from " + LOCK_TABLE + " where id = ?",
+            Integer.class, LOCK_ID);
+        if (Objects.isNull(lockCount) || lockCount == 0) {
+            try {
+                jdbcTemplate.update("insert into " + LOCK_TABLE + " (id) values (?)", LOCK_ID);
+            } catch (DuplicateKeyException e) {
+                log.info("다른 서버가 마이그레이션 잠금 행을 먼저 만들었습니다.");
+            }
+        }
+    }
+
+    private void lock(Connection lockConnection) throws SQLException {
+        try (PreparedStatement statement = lockConnection.prepareStatement(
+            "select id from " + LOCK_TABLE + " where id = ? for update")) {
+            statement.setInt(1, LOCK_ID);
+            statement.executeQuery().close();
+        }
+    }
+
+    private Map<Integer, String> findAppliedChecksums() {
+        return jdbcTemplate.query("select version, checksum from " + HISTORY_TABLE,
+                (resultSet, rowNum) -> Map.entry(resultSet.getInt("version"), resultSet.getString("checksum")))
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private List<MigrationScript> findScripts() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources(location + "/Version*.sql");
+
+            List<MigrationScript> scripts = Arrays.stream(resources)
+                .map(MigrationScript::from)
+                .sorted(Comparator.comparingInt(MigrationScript::getVersion))
+                .collect(Collectors.toUnmodifiableList());
+            validateUniqueVersions(scripts);
+            return scripts;
+        } catch (IOException e) {
+            throw new IllegalStateException("마이그레이션 스크립트를 읽을 수 없습니다. 위치: " + location, e);
+        }
+    }
+
+    private void validateUniqueVersions(List<MigrationScript> scripts) {
+        long versionCount = scripts.stream()
+            .map(MigrationScript::getVersion)
+            .distinct()
+            .count();
+        if (versionCount != scripts.size()) {
+            throw new IllegalStateException("같은 번호의 마이그레이션 스크립트가 있습니다. 위치: " + location);
+        }
+    }
+
+    private void validateChecksum(MigrationScript script, String appliedChecksum) {
+        if (!Objects.equals(script.getChecksum(), appliedChecksum)) {
+            throw new IllegalStateException("이미 적용된 마이그레이션 스크립트가 변경되었습니다. 스크립트: "
+                + script.getResource().getFilename());
+        }
+    }
+
+    private void apply(MigrationScript script) {
+        log.info("apply migration script={}", script.getResource().getFilename());
+        validatePrecondition(script);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                ScriptUtils.executeSqlScript(connection,
+                    new EncodedResource(script.getResource(), StandardCharsets.UTF_8), false, false,
+                    COMMENT_PREFIXES, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                    ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+                insertHistory(connection, script);
+                connection.commit();
+            } catch (RuntimeException | SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("마이그레이션 스크립트를 적용할 수 없습니다. 스크립트: "
+                + script.getResource().getFilename(), e);
+        }
+    }
+
+    private void insertHistory(Connection connection, MigrationScript script) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "insert into " + HISTORY_TABLE + " (version, description, checksum) values (?, ?, ?)")) {
+            statement.setInt(1, script.getVersion());
+            statement.setString(2, script.getDescription());
+            statement.setString(3, script.getChecksum());
+            statement.executeUpdate();
+        }
+    }
+
+    private void validatePrecondition(MigrationScript script) {
+        Resource precondition = new PathMatchingResourcePatternResolver()
+            .getResource(location + "/precondition/Version" + script.getVersion() + ".sql");
+        if (!precondition.exists()) {
+            return;
+        }
+
+        List<Map<String, Object>> violations = jdbcTemplate.queryForList(readQuery(precondition));
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("마이그레이션 스크립트를 적용하기 전에 정리해야 할 데이터가 있습니다. 스크립트: "
+                + script.getResource().getFilename() + ", 데이터: " + violations);
+        }
+    }
+
+    // 사전 조건 스크립트는 조회 쿼리 하나로 쓰고, 주석 줄과 끝의 구분자는 빼고 실행한다.
+    private static String readQuery(Resource resource) {
+        String query = readScript(resource).lines()
+            .filter(line -> Arrays.stream(COMMENT_PREFIXES).noneMatch(line.strip()::startsWith))
+            .collect(Collectors.joining("\n"))
+            .strip();
+        if (query.endsWith(ScriptUtils.DEFAULT_STATEMENT_SEPARATOR)) {
+            return query.substring(0, query.length() - ScriptUtils.DEFAULT_STATEMENT_SEPARATOR.length());
+        }
+        return query;
+    }
+
+    private static String readScript(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("마이그레이션 스크립트를 읽을 수 없습니다. 스크립트: "
+                + resource.getFilename(), e);
+        }
+    }
+
+    @Getter
+    private static class MigrationScript {
+
+        private final Resource resource;
+        private final int version;
+        private final String description;
+        private final String checksum;
+
+        private MigrationScript(Resource resource, int version, String description, String checksum) {
+            this.resource = resource;
+            this.version = version;
+            this.description = description;
+            this.checksum = checksum;
+        }
+
+        private static MigrationScript from(Resource resource) {
+            Matcher matcher = SCRIPT_NAME.matcher(Objects.requireNonNull(resource.getFilename()));
+            if (!matcher.matches()) {
+                throw new IllegalStateException("마이그레이션 스크립트 이름이 올바르지 않습니다. 스크립트: "
+                    + resource.getFilename());
+            }
+            return new MigrationScript(resource, Integer.parseInt(matcher.group(1)), matcher.group(2),
+                checksumOf(resource));
+        }
+
+        private static String checksumOf(Resource resource) {
+            String content = readScript(resource).replace("\r\n", "\n");
+            return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
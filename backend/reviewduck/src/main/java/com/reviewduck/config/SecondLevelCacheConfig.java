@@ -0,0 +1,88 @@
+package com.reviewduck.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormQuestion;
+import com.reviewduck.domain.Template;
+import com.reviewduck.domain.TemplateQuestion;
+
+/**
+ * 2차 캐시는 서버마다 따로 두는 로컬 캐시라 다른 서버의 수정으로는 비워지지 않는다.
+ * 그래서 엔티티와 쿼리 결과 영역은 저장한 뒤 정해진 시간이 지나면 버려, 다른 서버의 수정이 늦어도 그 시간 안에 보이게 한다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    static final long ENTITY_EXPIRE_AFTER_WRITE_NANOS = TimeUnit.SECONDS.toNanos(10);
+    static final long QUERY_EXPIRE_AFTER_WRITE_NANOS = TimeUnit.SECONDS.toNanos(3);
+    static final List<String> ENTITY_REGIONS = List.of(
+        ReviewForm.class.getName(),
+        ReviewForm.class.getName() + ".reviewFormQuestions",
+        ReviewForm.class.getName() + "##NaturalId",
+        ReviewFormQuestion.class.getName(),
+        Template.class.getName(),
+        Template.class.getName() + ".questions",
+        TemplateQuestion.class.getName()
+    );
+    static final String QUERY_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    private static final long MAXIMUM_REGION_SIZE = 10_000;
+    // 테이블별 마지막 수정 시각이므로 크기를 제한하면 오래된 쿼리 캐시를 돌려줄 수 있다.
+    private static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("reviewduck:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        ENTITY_REGIONS.forEach(region -> cacheManager.createCache(region,
+            regionConfiguration(MAXIMUM_REGION_SIZE, ENTITY_EXPIRE_AFTER_WRITE_NANOS)));
+        cacheManager.createCache(QUERY_REGION, regionConfiguration(MAXIMUM_REGION_SIZE, QUERY_EXPIRE_AFTER_WRITE_NANOS));
+        cacheManager.createCache(TIMESTAMPS_REGION, regionConfiguration(null, null));
+        return cacheManager;
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration(Long maximumSize, Long expireAfterWriteNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        // 적중, 실패, 축출 통계를 JMX(javax.cache:type=CacheStatistics)로 노출한다.
+        configuration.setStatisticsEnabled(true);
+        if (maximumSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWriteNanos != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWriteNanos));
+        }
+        return configuration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+            hibernateProperties.putIfAbsent(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            hibernateProperties.putIfAbsent(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
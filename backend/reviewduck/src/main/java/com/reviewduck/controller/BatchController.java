@@ -0,0 +1,182 @@
+package com.reviewduck.controller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.reviewduck.dto.request.BatchItemRequest;
+import com.reviewduck.dto.request.BatchRequest;
+import com.reviewduck.dto.response.BatchItemResponse;
+import com.reviewduck.dto.response.BatchResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 API 요청을 한 번에 받아 DispatcherServlet 으로 차례대로 실행하고 응답을 모아 돌려준다.
+ * 하위 요청은 기존 컨트롤러와 예외 처리를 그대로 거치며, 조회만 있는 일괄 요청은 하나의 읽기 전용 트랜잭션에서
+ * 실행해 커넥션과 영속성 컨텍스트를 함께 쓴다.
+ */
+@RestController
+@RequestMapping("/api/batch")
+@Slf4j
+public class BatchController {
+
+    private static final List<String> ROUTABLE_PATHS = List.of("/api/review-forms", "/api/reviews", "/api/templates");
+    private static final List<Class<?>> ASYNC_RETURN_TYPES = List.of(
+        CompletionStage.class, ResponseBodyEmitter.class, StreamingResponseBody.class);
+
+    private final DispatcherServlet dispatcherServlet;
+    private final HandlerMapping handlerMapping;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public BatchController(DispatcherServlet dispatcherServlet,
+        @Qualifier("requestMappingHandlerMapping") HandlerMapping handlerMapping,
+        PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.dispatcherServlet = dispatcherServlet;
+        this.handlerMapping = handlerMapping;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(summary = "여러 요청을 한 번에 실행한다.")
+    @PostMapping
+    @ResponseStatus(HttpStatus.OK)
+    public BatchResponse execute(@RequestBody @Valid BatchRequest request, HttpServletRequest servletRequest,
+        HttpServletResponse servletResponse) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/batch", "POST", request.toString());
+
+        if (!request.isReadOnly()) {
+            return new BatchResponse(executeAll(request, servletRequest, servletResponse));
+        }
+        // 조회만 하므로 커밋할 것이 없다. 하위 요청의 예외로 트랜잭션이 롤백 전용이 되어도 응답에 영향이 없도록 롤백한다.
+        return readOnlyTransactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return new BatchResponse(executeAll(request, servletRequest, servletResponse));
+        });
+    }
+
+    private List<BatchItemResponse> executeAll(BatchRequest request, HttpServletRequest servletRequest,
+        HttpServletResponse servletResponse) {
+        List<BatchItemResponse> responses = new ArrayList<>();
+        boolean failed = false;
+        for (BatchItemRequest itemRequest : request.getRequests()) {
+            if (failed && request.isFailFast()) {
+                responses.add(BatchItemResponse.error(HttpStatus.FAILED_DEPENDENCY, "앞선 요청이 실패하여 실행하지 않았습니다."));
+                continue;
+            }
+            BatchItemResponse response = execute(itemRequest, servletRequest, servletResponse);
+            failed |= response.isFailed();
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private BatchItemResponse execute(BatchItemRequest itemRequest, HttpServletRequest servletRequest,
+        HttpServletResponse servletResponse) {
+        if (!isRoutable(itemRequest.getPath())) {
+            return BatchItemResponse.error(HttpStatus.BAD_REQUEST, "일괄 요청으로 보낼 수 없는 주소입니다.");
+        }
+
+        try {
+            BatchServletRequest subRequest = new BatchServletRequest(servletRequest, itemRequest.getMethod(),
+                itemRequest.getPath(), itemRequest.getHeaders(), toBytes(itemRequest.getBody()));
+            if (isAsync(subRequest)) {
+                return BatchItemResponse.error(HttpStatus.BAD_REQUEST, "일괄 요청에서 지원하지 않는 요청입니다.");
+            }
+
+            BatchServletResponse subResponse = new BatchServletResponse(servletResponse);
+            ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(subResponse);
+            dispatcherServlet.service(subRequest, cachingResponse);
+            return toItemResponse(subResponse, cachingResponse.getContentAsByteArray());
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return BatchItemResponse.error(HttpStatus.INTERNAL_SERVER_ERROR, "예상치 못한 오류가 발생하였습니다.");
+        }
+    }
+
+    private boolean isRoutable(String path) {
+        return ROUTABLE_PATHS.stream()
+            .anyMatch(routablePath -> path.equals(routablePath) || path.startsWith(routablePath + "/")
+                || path.startsWith(routablePath + "?"));
+    }
+
+    // 결과를 나중에 돌려주는 핸들러는 바깥 요청이 끝난 뒤에 응답하게 되므로 실행하지 않는다.
+    private boolean isAsync(HttpServletRequest subRequest) throws Exception {
+        ServletRequestPathUtils.parseAndCache(subRequest);
+        HandlerExecutionChain handler = handlerMapping.getHandler(subRequest);
+        if (Objects.isNull(handler) || !(handler.getHandler() instanceof HandlerMethod)) {
+            return false;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod)handler.getHandler();
+        ResolvableType returnType = ResolvableType.forMethodParameter(handlerMethod.getReturnType());
+        if (ResponseEntity.class.isAssignableFrom(returnType.toClass())) {
+            returnType = returnType.getGeneric(0);
+        }
+        Class<?> returnClass = returnType.toClass();
+        return ASYNC_RETURN_TYPES.stream()
+            .anyMatch(asyncReturnType -> asyncReturnType.isAssignableFrom(returnClass));
+    }
+
+    private byte[] toBytes(JsonNode body) throws IOException {
+        if (Objects.isNull(body) || body.isNull()) {
+            return new byte[0];
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    private BatchItemResponse toItemResponse(BatchServletResponse subResponse, byte[] body) throws IOException {
+        HttpHeaders httpHeaders = subResponse.getHttpHeaders();
+        Map<String, String> headers = new LinkedHashMap<>();
+        httpHeaders.forEach((name, values) -> headers.put(name, String.join(", ", values)));
+        return BatchItemResponse.of(subResponse.getStatus(), headers, toJson(subResponse, body));
+    }
+
+    private JsonNode toJson(BatchServletResponse subResponse, byte[] body) throws IOException {
+        if (body.length == 0) {
+            return null;
+        }
+        MediaType mediaType = subResponse.getMediaType();
+        if (Objects.nonNull(mediaType) && mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return objectMapper.readTree(body);
+        }
+        return TextNode.valueOf(new String(body, subResponse.getCharacterEncoding()));
+    }
+}
@@ -0,0 +1,263 @@
+package com.reviewduck.controller;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * 일괄 요청의 하위 요청 하나를 DispatcherServlet 에 넘기기 위한 요청.
+ * 메서드, 주소, 헤더, 본문과 요청 속성은 하위 요청의 것만 쓰고, 세션과 서버 정보는 바깥 요청을 따른다.
+ */
+class BatchServletRequest extends HttpServletRequestWrapper {
+
+    private final String method;
+    private final String path;
+    private final String queryString;
+    private final Map<String, String[]> parameters = new HashMap<>();
+    private final HttpHeaders headers = new HttpHeaders();
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final byte[] body;
+
+    BatchServletRequest(HttpServletRequest request, String method, String uri, Map<String, String> headers,
+        byte[] body) {
+        super(request);
+        UriComponents uriComponents = UriComponentsBuilder.fromUriString(uri).build();
+        this.method = method.toUpperCase();
+        this.path = uriComponents.getPath();
+        this.queryString = uriComponents.getQuery();
+        uriComponents.getQueryParams().forEach((name, values) -> parameters.put(UriUtils.decode(name, UTF_8),
+            values.stream()
+                .map(value -> Objects.isNull(value) ? "" : UriUtils.decode(value, UTF_8))
+                .toArray(String[]::new)));
+        if (Objects.nonNull(headers)) {
+            headers.forEach(this.headers::add);
+        }
+        // 하위 응답 본문을 JSON 으로 돌려주므로 압축하지 않는다.
+        this.headers.remove(HttpHeaders.ACCEPT_ENCODING);
+        this.body = body;
+        if (body.length > 0) {
+            this.headers.putIfAbsent(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE));
+        }
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return getContextPath() + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer requestUrl = new StringBuffer();
+        requestUrl.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort());
+        return requestUrl.append(getRequestURI());
+    }
+
+    @Override
+    public String getServletPath() {
+        return path;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        if (Objects.isNull(values) || values.length == 0) {
+            return null;
+        }
+        return values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(headers.getOrEmpty(name));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = headers.getFirst(name);
+        if (Objects.isNull(value)) {
+            return -1;
+        }
+        return Integer.parseInt(value);
+    }
+
+    // 서블릿 규약대로 날짜로 읽을 수 없는 값은 IllegalArgumentException 을 던지며, 조건부 요청 처리는 이를 잡아 무시한다.
+    @Override
+    public long getDateHeader(String name) {
+        return headers.getFirstDate(name);
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return UTF_8.name();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new BodyInputStream(body);
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), UTF_8));
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (Objects.isNull(value)) {
+            attributes.remove(name);
+            return;
+        }
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    // 하위 요청은 바깥 요청의 스레드에서 끝까지 처리한다.
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    /**
+     * 본문을 모두 메모리에 들고 있으므로 언제든 막힘 없이 읽을 수 있다.
+     */
+    private static class BodyInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream inputStream;
+
+        private BodyInputStream(byte[] body) {
+            this.inputStream = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return inputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() {
+            return inputStream.read();
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            return inputStream.read(bytes, offset, length);
+        }
+
+        @Override
+        public int available() {
+            return inputStream.available();
+        }
+    }
+}
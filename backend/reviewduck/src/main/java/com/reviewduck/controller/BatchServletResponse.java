@@ -0,0 +1,257 @@
+package com.reviewduck.controller;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * 일괄 요청의 하위 요청 하나에 대한 상태와 헤더를 모은다. 바깥 응답에는 아무것도 쓰지 않는다.
+ * 본문은 이 응답을 감싼 ContentCachingResponseWrapper 가 모으며, sendError 로 버려지는 본문만 이 응답까지 내려온다.
+ */
+class BatchServletResponse extends HttpServletResponseWrapper {
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+        DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US).withZone(ZoneId.of("GMT"));
+
+    private final HttpHeaders headers = new HttpHeaders();
+    private final ServletOutputStream outputStream = new DiscardingOutputStream();
+    private int status = HttpStatus.OK.value();
+    private String characterEncoding;
+    private Locale locale = Locale.getDefault();
+    private PrintWriter writer;
+    private int bufferSize;
+    private boolean committed;
+
+    BatchServletResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    HttpHeaders getHttpHeaders() {
+        return headers;
+    }
+
+    MediaType getMediaType() {
+        return headers.getContentType();
+    }
+
+    @Override
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void sendError(int status) {
+        sendError(status, null);
+    }
+
+    @Override
+    public void sendError(int status, String message) {
+        this.status = status;
+        this.committed = true;
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        this.status = HttpStatus.FOUND.value();
+        headers.set(HttpHeaders.LOCATION, location);
+        this.committed = true;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        headers.set(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers.add(name, value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        headers.set(name, String.valueOf(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        headers.add(name, String.valueOf(value));
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        headers.set(name, DATE_FORMATTER.format(Instant.ofEpochMilli(date)));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        headers.add(name, DATE_FORMATTER.format(Instant.ofEpochMilli(date)));
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        return headers.getOrEmpty(name);
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return headers.keySet();
+    }
+
+    // 쿠키는 하위 요청 응답에 담지 않는다.
+    @Override
+    public void addCookie(Cookie cookie) {
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+        if (Objects.isNull(contentType)) {
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (Objects.nonNull(mediaType.getCharset())) {
+            characterEncoding = mediaType.getCharset().name();
+        }
+        headers.setContentType(mediaType);
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Override
+    public void setCharacterEncoding(String characterEncoding) {
+        this.characterEncoding = characterEncoding;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        if (Objects.isNull(characterEncoding)) {
+            return UTF_8.name();
+        }
+        return characterEncoding;
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        headers.setContentLength(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        headers.setContentLength(length);
+    }
+
+    @Override
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (Objects.isNull(writer)) {
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+        this.bufferSize = size;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public void flushBuffer() {
+        committed = true;
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public void reset() {
+        headers.clear();
+        status = HttpStatus.OK.value();
+    }
+
+    @Override
+    public void resetBuffer() {
+    }
+
+    private static class DiscardingOutputStream extends ServletOutputStream {
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                writeListener.onWritePossible();
+            } catch (IOException e) {
+                writeListener.onError(e);
+            }
+        }
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.reviewduck.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.reviewduck.dto.response.ErrorResponse;
 import com.reviewduck.exception.CustomException;
 import com.reviewduck.exception.NotFoundException;
+import com.reviewduck.exception.ServiceUnavailableException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,13 +45,26 @@ public class ControllerAdvice {
         return new ErrorResponse(message.toString());
     }
 
+    // 이벤트 스트림 구독 요청은 text/event-stream 만 받으므로, 본문 형식을 정해 두어야 오류 응답을 쓸 수 있다.
     @ExceptionHandler(NotFoundException.class)
-    @ResponseStatus(HttpStatus.NOT_FOUND)
-    public ErrorResponse handleNotFoundException(Exception e) {
+    public ResponseEntity<ErrorResponse> handleNotFoundException(Exception e) {
 
         log.error(e.getMessage());
 
-        return new ErrorResponse(e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorResponse(e.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+
+        log.warn(e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorResponse(e.getMessage()));
     }
 
     @ExceptionHandler(Exception.class)
@@ -4,6 +4,7 @@ import javax.validation.Valid;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.reviewduck.dto.request.ReviewPatchRequest;
 import com.reviewduck.dto.request.ReviewRequest;
 import com.reviewduck.service.ReviewService;
 
@@ -37,6 +39,17 @@ public class ReviewController {
         reviewService.update(reviewId, request);
     }
 
+    @Operation(summary = "회고 답변 중 요청한 질문의 답변만 수정한다.")
+    @PatchMapping("/{reviewId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void patch(@PathVariable Long reviewId, @RequestBody @Valid ReviewPatchRequest request) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/reviews/" + reviewId, "PATCH", request.toString());
+
+        reviewService.patch(reviewId, request);
+    }
+
     @Operation(summary = "회고 답변을 삭제한다.")
     @DeleteMapping("/{reviewId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
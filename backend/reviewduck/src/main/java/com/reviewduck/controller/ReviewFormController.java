@@ -1,27 +1,63 @@
 package com.reviewduck.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import javax.validation.Valid;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.reviewduck.cache.ReviewFormResponseCache;
+import com.reviewduck.cache.SerializedResponse;
+import com.reviewduck.domain.ResourceVersion;
 import com.reviewduck.domain.Review;
 import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.dto.projection.ReviewFormSummary;
 import com.reviewduck.dto.request.ReviewFormCreateRequest;
 import com.reviewduck.dto.request.ReviewFormUpdateRequest;
 import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.response.ReviewBulkCreateResponse;
 import com.reviewduck.dto.response.ReviewFormCodeResponse;
-import com.reviewduck.dto.response.ReviewFormResponse;
+import com.reviewduck.dto.response.ReviewFormWithReviewsResponse;
+import com.reviewduck.dto.response.ReviewResponse;
+import com.reviewduck.dto.response.ReviewsDeltaResponse;
 import com.reviewduck.dto.response.ReviewsFindResponse;
+import com.reviewduck.exception.ReviewException;
+import com.reviewduck.feed.ReviewFeed;
+import com.reviewduck.service.CoalescingReadService;
+import com.reviewduck.service.GroupCommitReviewWriter;
+import com.reviewduck.service.ReviewFormReadService;
 import com.reviewduck.service.ReviewFormService;
 import com.reviewduck.service.ReviewService;
 
@@ -33,12 +69,36 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ReviewFormController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final String GZIP = "gzip";
+    // CacheControl 이 immutable 지시자를 지원하지 않아 직접 붙인다.
+    private static final String IMMUTABLE_CACHE_CONTROL =
+        CacheControl.maxAge(Duration.ofDays(365)).cachePublic().getHeaderValue() + ", immutable";
+
     private final ReviewFormService reviewFormService;
     private final ReviewService reviewService;
+    private final ReviewFormReadService reviewFormReadService;
+    private final CoalescingReadService coalescingReadService;
+    private final GroupCommitReviewWriter groupCommitReviewWriter;
+    private final ReviewFormResponseCache reviewFormResponseCache;
+    private final ReviewFeed reviewFeed;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter reviewResponseWriter;
 
-    public ReviewFormController(ReviewFormService reviewFormService, ReviewService reviewService) {
+    public ReviewFormController(ReviewFormService reviewFormService, ReviewService reviewService,
+        ReviewFormReadService reviewFormReadService, CoalescingReadService coalescingReadService,
+        GroupCommitReviewWriter groupCommitReviewWriter, ReviewFormResponseCache reviewFormResponseCache,
+        ReviewFeed reviewFeed, ObjectMapper objectMapper) {
         this.reviewFormService = reviewFormService;
         this.reviewService = reviewService;
+        this.reviewFormReadService = reviewFormReadService;
+        this.coalescingReadService = coalescingReadService;
+        this.groupCommitReviewWriter = groupCommitReviewWriter;
+        this.reviewFormResponseCache = reviewFormResponseCache;
+        this.reviewFeed = reviewFeed;
+        this.objectMapper = objectMapper;
+        this.reviewResponseWriter = objectMapper.writerFor(ReviewResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @Operation(summary = "회고 폼을 생성한다.")
@@ -55,14 +115,98 @@ public class ReviewFormController {
 
     @Operation(summary = "회고 폼의 질문들을 모두 조회한다.")
     @GetMapping("/{reviewFormCode}")
-    @ResponseStatus(HttpStatus.OK)
-    public ReviewFormResponse find(@PathVariable String reviewFormCode) {
+    public ResponseEntity<byte[]> find(@PathVariable String reviewFormCode,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WebRequest webRequest) {
 
         log.info("uri={}, method = {}, request = {}",
             "/api/review-forms/" + reviewFormCode, "GET", "");
 
-        ReviewForm reviewForm = reviewFormService.findByCode(reviewFormCode);
-        return ReviewFormResponse.from(reviewForm);
+        boolean gzipped = acceptsGzip(acceptEncoding);
+        // 캐시된 응답은 조회한 수정 시각과 같을 때만 쓰고, 새로 읽었으면 읽은 응답이 더 최신일 수 있다.
+        // 검증자와 현재 버전 주소는 실제로 돌려줄 응답에서 만든다.
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(reviewFormCode);
+        SerializedResponse response = reviewFormResponseCache.get(reviewFormCode,
+            ResourceVersion.of(reviewForm.getUpdatedAt()).getLastModified(),
+            () -> coalescingReadService.findReviewForm(reviewFormCode));
+
+        ResourceVersion version = ResourceVersion.from(response.getUpdatedAt());
+        if (gzipped) {
+            version = version.withVariant(GZIP);
+        }
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_LOCATION, versionUri(reviewFormCode, response.getVersion()));
+        return serializedBody(builder, response, gzipped);
+    }
+
+    @Operation(summary = "회고 폼의 최신 버전 주소로 이동한다.")
+    @GetMapping("/{reviewFormCode}/versions/latest")
+    public ResponseEntity<Void> findLatestVersion(@PathVariable String reviewFormCode) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode + "/versions/latest", "GET", "");
+
+        int version = reviewFormReadService.findCurrentVersion(reviewFormCode);
+        return ResponseEntity.status(HttpStatus.FOUND)
+            .cacheControl(CacheControl.noCache())
+            .location(URI.create(versionUri(reviewFormCode, version)))
+            .build();
+    }
+
+    @Operation(summary = "특정 버전의 회고 폼 질문들을 조회한다.")
+    @GetMapping("/{reviewFormCode}/versions/{version}")
+    public ResponseEntity<byte[]> findVersion(@PathVariable String reviewFormCode, @PathVariable int version,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode + "/versions/" + version, "GET", "");
+
+        SerializedResponse response = reviewFormResponseCache.getVersion(reviewFormCode, version,
+            () -> reviewFormReadService.findReviewFormSnapshot(reviewFormCode, version));
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        return serializedBody(builder, response, acceptsGzip(acceptEncoding));
+    }
+
+    private String versionUri(String reviewFormCode, int version) {
+        return "/api/review-forms/" + reviewFormCode + "/versions/" + version;
+    }
+
+    private ResponseEntity<byte[]> serializedBody(ResponseEntity.BodyBuilder builder, SerializedResponse response,
+        boolean gzipped) {
+        builder.contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.body(response.getBody(gzipped));
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (Objects.isNull(acceptEncoding)) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+            .map(String::trim)
+            .anyMatch(coding -> coding.startsWith(GZIP) && !coding.replace(" ", "").endsWith("q=0"));
+    }
+
+    @Operation(summary = "회고 폼의 질문들과 회고 답변들을 함께 조회한다.")
+    @GetMapping(value = "/{reviewFormCode}", params = "include=reviews")
+    @ResponseStatus(HttpStatus.OK)
+    public ReviewFormWithReviewsResponse findWithReviews(@PathVariable String reviewFormCode) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode, "GET", "include=reviews");
+
+        return coalescingReadService.findWithReviews(reviewFormCode);
     }
 
     @Operation(summary = "회고 폼을 수정한다.")
@@ -78,28 +222,127 @@ public class ReviewFormController {
         return ReviewFormCodeResponse.from(reviewForm);
     }
 
+    @Operation(summary = "회고 폼과 회고 폼에 작성된 회고를 모두 삭제한다.")
+    @DeleteMapping("/{reviewFormCode}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable String reviewFormCode) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode, "DELETE", "");
+
+        reviewFormService.deleteByCode(reviewFormCode);
+    }
+
     @Operation(summary = "회고 답변을 생성한다.")
     @PostMapping("/{reviewFormCode}")
     @ResponseStatus(HttpStatus.CREATED)
-    public void create(@PathVariable String reviewFormCode, @RequestBody @Valid ReviewRequest request) {
+    public CompletableFuture<Void> create(@PathVariable String reviewFormCode,
+        @RequestBody @Valid ReviewRequest request) {
 
         log.info("uri={}, method = {}, request = {}",
             "/api/review-forms/" + reviewFormCode, "POST", request.toString());
 
-        reviewService.save(reviewFormCode, request);
+        return groupCommitReviewWriter.submit(reviewFormCode, request)
+            .thenApply(reviewId -> null);
+    }
+
+    @Operation(summary = "회고 답변 여러 개를 한 번에 생성한다.")
+    @PostMapping("/{reviewFormCode}/reviews:bulk")
+    @ResponseStatus(HttpStatus.OK)
+    public ReviewBulkCreateResponse createAll(@PathVariable String reviewFormCode,
+        @RequestBody List<ReviewRequest> requests) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode + "/reviews:bulk", "POST", requests.size() + " reviews");
+
+        return ReviewBulkCreateResponse.from(reviewService.saveAll(reviewFormCode, requests));
     }
 
     @Operation(summary = "특정 회고 폼을 기반으로 작성된 회고 답변들을 모두 조회한다.")
     @GetMapping("/{reviewFormCode}/reviews")
-    @ResponseStatus(HttpStatus.OK)
-    public ReviewsFindResponse findByCode(@PathVariable String reviewFormCode) {
+    public ReviewsFindResponse findByCode(@PathVariable String reviewFormCode,
+        @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit,
+        WebRequest webRequest) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode + "/reviews", "GET", "cursor=" + cursor + ", limit=" + limit);
+
+        ResourceVersion version = reviewFormReadService.findReviewsVersion(reviewFormCode);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        if (Objects.isNull(cursor) && Objects.isNull(limit)) {
+            return coalescingReadService.findReviews(reviewFormCode);
+        }
+
+        return coalescingReadService.findReviewPage(reviewFormCode, cursor,
+            Objects.requireNonNullElse(limit, DEFAULT_PAGE_SIZE));
+    }
+
+    @Operation(summary = "특정 회고 폼에서 기준점 이후에 작성, 수정, 삭제된 회고만 조회한다.")
+    @GetMapping(value = "/{reviewFormCode}/reviews", params = {"since", "stream!=true"})
+    public ReviewsDeltaResponse findChangesByCode(@PathVariable String reviewFormCode, @RequestParam long since) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode + "/reviews", "GET", "since=" + since);
+
+        return reviewFormReadService.findReviewDelta(reviewFormCode, since);
+    }
+
+    @Operation(summary = "특정 회고 폼을 기반으로 작성된 회고 답변들을 스트리밍으로 모두 조회한다.")
+    @GetMapping(value = "/{reviewFormCode}/reviews", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamByCode(@PathVariable String reviewFormCode,
+        @RequestParam(required = false) String since) {
+
+        log.info("uri={}, method = {}, request = {}",
+            "/api/review-forms/" + reviewFormCode + "/reviews", "GET", "stream=true, since=" + since);
+
+        if (Objects.nonNull(since)) {
+            throw new ReviewException("기준점 이후의 회고는 스트리밍으로 조회할 수 없습니다.");
+        }
+
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(reviewFormCode);
+        ReviewsFindResponse header = ReviewsFindResponse.of(reviewForm, List.of(), Map.of());
+        StreamingResponseBody body = outputStream -> writeReviews(outputStream, reviewForm.getId(), header);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    @Operation(summary = "특정 회고 폼에 회고가 작성, 수정, 삭제될 때마다 Server-Sent Events 로 받는다.")
+    @GetMapping(value = "/{reviewFormCode}/reviews/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeReviews(@PathVariable String reviewFormCode) {
 
         log.info("uri={}, method = {}, request = {}",
-            "/api/review-forms/" + reviewFormCode + "/reviews", "GET", "");
+            "/api/review-forms/" + reviewFormCode + "/reviews/events", "GET", "");
+
+        reviewFormService.findSummaryByCode(reviewFormCode);
+        return reviewFeed.subscribe(reviewFormCode);
+    }
+
+    private void writeReviews(OutputStream outputStream, Long reviewFormId, ReviewsFindResponse header)
+        throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField("reviewFormTitle", header.getReviewFormTitle());
+            generator.writeNumberField("updatedAt", header.getUpdatedAt());
+            generator.writeArrayFieldStart("reviews");
+            generator.flush();
 
-        ReviewForm reviewForm = reviewFormService.findByCode(reviewFormCode);
-        List<Review> reviews = reviewService.findAllByCode(reviewFormCode);
+            reviewService.streamAllByReviewFormId(reviewFormId, review -> writeReview(generator, review));
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
-        return ReviewsFindResponse.of(reviewForm, reviews);
+    private void writeReview(JsonGenerator generator, Review review) {
+        try {
+            reviewResponseWriter.writeValue(generator, ReviewResponse.from(review));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.reviewduck.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.validation.Valid;
 
@@ -14,9 +15,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.reviewduck.domain.ResourceVersion;
 import com.reviewduck.domain.ReviewForm;
 import com.reviewduck.domain.Template;
+import com.reviewduck.dto.projection.TemplateQuestionSummary;
+import com.reviewduck.dto.projection.TemplateSummary;
 import com.reviewduck.dto.request.ReviewFormCreateFromTemplateRequest;
 import com.reviewduck.dto.request.TemplateCreateRequest;
 import com.reviewduck.dto.request.TemplateUpdateRequest;
@@ -70,26 +75,36 @@ public class TemplateController {
 
     @Operation(summary = "템플릿을 조회한다.")
     @GetMapping("/{templateId}")
-    @ResponseStatus(HttpStatus.OK)
-    public TemplateResponse find(@PathVariable Long templateId) {
+    public TemplateResponse find(@PathVariable Long templateId, WebRequest webRequest) {
 
         log.info("uri={}, method = {}, request = {}",
             "/api/templates/" + templateId, "GET", "");
 
-        Template template = templateService.findById(templateId);
-        return TemplateResponse.from(template);
+        ResourceVersion version = templateService.findVersionById(templateId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        TemplateSummary template = templateService.findSummaryById(templateId);
+        List<TemplateQuestionSummary> questions = templateService.findQuestionSummaries(templateId);
+        return TemplateResponse.of(template, questions);
     }
 
     @Operation(summary = "템플릿을 모두 조회한다.")
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public TemplatesFindResponse findAll() {
+    public TemplatesFindResponse findAll(WebRequest webRequest) {
 
         log.info("uri={}, method = {}, request = {}",
             "/api/templates", "GET", "");
 
-        List<Template> templates = templateService.findAll();
-        return TemplatesFindResponse.from(templates);
+        ResourceVersion version = templateService.findAllVersion();
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        List<TemplateSummary> templates = templateService.findAllSummaries();
+        Map<Long, List<TemplateQuestionSummary>> questions = templateService.findAllQuestionSummaries();
+        return TemplatesFindResponse.of(templates, questions);
     }
 
     @Operation(summary = "템플릿을 삭제한다.")
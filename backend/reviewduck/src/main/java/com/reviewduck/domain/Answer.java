@@ -8,6 +8,8 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.reviewduck.exception.AnswerException;
 
 import lombok.AccessLevel;
@@ -15,12 +17,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@BatchSize(size = 100)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Answer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
     @Column(nullable = false)
     private Long id;
 
@@ -32,6 +35,11 @@ public class Answer {
         this.value = value;
     }
 
+    public void updateValue(String value) {
+        validate(value);
+        this.value = value;
+    }
+
     private void validate(String value) {
         if (Objects.isNull(value)) {
             throw new AnswerException("답변 작성 중 오류가 발생했습니다.");
@@ -24,4 +24,8 @@ public abstract class BaseDate {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 질문이나 답변처럼 자식 행만 바뀌어도 수정 시각이 갱신되도록 엔티티를 변경 상태로 만든다.
+    protected void markUpdated() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
@@ -7,6 +7,8 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 
 import lombok.AccessLevel;
@@ -20,9 +22,13 @@ public class QuestionAnswer {
 
     @Id
     @Column(name = "id", nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
     private Long id;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id")
+    private Review review;
+
     @OneToOne(fetch = FetchType.LAZY)
     private ReviewFormQuestion reviewFormQuestion;
 
@@ -37,7 +43,23 @@ public class QuestionAnswer {
         this.answer = answer;
     }
 
+    public Long getQuestionId() {
+        return reviewFormQuestion.getId();
+    }
+
+    public boolean hasAnswerValue(String value) {
+        return answer.getValue().equals(value);
+    }
+
+    public void updateAnswerValue(String value) {
+        answer.updateValue(value);
+    }
+
     public void setPosition(int position) {
         this.position = position;
     }
+
+    public void setReview(Review review) {
+        this.review = review;
+    }
 }
@@ -0,0 +1,26 @@
+package com.reviewduck.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class QuestionSnapshot {
+
+    @Column(nullable = false)
+    private Long questionId;
+
+    @Column(name = "question_value", nullable = false)
+    private String value;
+
+    public static QuestionSnapshot from(ReviewFormQuestion reviewFormQuestion) {
+        return new QuestionSnapshot(reviewFormQuestion.getId(), reviewFormQuestion.getValue());
+    }
+}
@@ -0,0 +1,51 @@
+package com.reviewduck.domain;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@EqualsAndHashCode
+public class ResourceVersion {
+
+    private static final String DELIMITER = "-";
+    private static final long UNKNOWN = -1;
+
+    private final String eTag;
+    private final long lastModified;
+
+    public static ResourceVersion of(LocalDateTime updatedAt) {
+        return from(toEpochMilli(updatedAt));
+    }
+
+    public static ResourceVersion from(long updatedTime) {
+        return new ResourceVersion(Long.toHexString(updatedTime), updatedTime);
+    }
+
+    public static ResourceVersion of(long count, LocalDateTime lastUpdatedAt) {
+        long lastUpdatedTime = toEpochMilli(lastUpdatedAt);
+        return new ResourceVersion(Long.toHexString(count) + DELIMITER + Long.toHexString(lastUpdatedTime),
+            lastUpdatedTime);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        if (Objects.isNull(dateTime)) {
+            return UNKNOWN;
+        }
+        return Timestamp.valueOf(dateTime).getTime();
+    }
+
+    public ResourceVersion and(ResourceVersion other) {
+        return new ResourceVersion(eTag + DELIMITER + other.eTag, Math.max(lastModified, other.lastModified));
+    }
+
+    public ResourceVersion withVariant(String variant) {
+        return new ResourceVersion(eTag + DELIMITER + variant, lastModified);
+    }
+}
@@ -2,7 +2,10 @@ package com.reviewduck.domain;
 
 import static lombok.AccessLevel.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.persistence.CascadeType;
@@ -11,11 +14,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OrderBy;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.reviewduck.exception.ReviewException;
 
 import lombok.Getter;
@@ -27,7 +31,7 @@ import lombok.NoArgsConstructor;
 public class Review extends BaseDate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
     private Long id;
 
     private String nickname;
@@ -35,9 +39,9 @@ public class Review extends BaseDate {
     @ManyToOne(fetch = FetchType.LAZY)
     private ReviewForm reviewForm;
 
-    @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "review_id")
+    @OneToMany(mappedBy = "review", cascade = CascadeType.ALL)
     @OrderBy("position asc")
+    @BatchSize(size = 100)
     private List<QuestionAnswer> questionAnswers;
 
     private Review(String nickname, ReviewForm reviewForm, List<QuestionAnswer> questionAnswers) {
@@ -45,6 +49,7 @@ public class Review extends BaseDate {
         this.nickname = nickname;
         this.reviewForm = reviewForm;
         this.questionAnswers = questionAnswers;
+        questionAnswers.forEach(questionAnswer -> questionAnswer.setReview(this));
     }
 
     public static Review of(String nickname, ReviewForm reviewForm, List<QuestionAnswer> questionAnswers) {
@@ -58,14 +63,85 @@ public class Review extends BaseDate {
         }
     }
 
-    private void sortQuestionAnswers(List<QuestionAnswer> questionAnswers) {
+    private boolean sortQuestionAnswers(List<QuestionAnswer> questionAnswers) {
+        boolean changed = false;
         int index = 0;
         for (QuestionAnswer questionAnswer : questionAnswers) {
+            changed |= questionAnswer.getPosition() != index;
             questionAnswer.setPosition(index++);
         }
+        return changed;
     }
 
+    // 답변 목록 전체를 바꾸되, 같은 질문의 기존 답변은 그대로 두고 값이 바뀐 경우에만 수정한다.
     public void update(List<QuestionAnswer> questionAnswers) {
-        this.questionAnswers = questionAnswers;
+        Map<Long, QuestionAnswer> savedQuestionAnswers = groupByQuestion(this.questionAnswers);
+
+        boolean changed = false;
+        List<QuestionAnswer> updatedQuestionAnswers = new ArrayList<>();
+        for (QuestionAnswer questionAnswer : questionAnswers) {
+            QuestionAnswer savedQuestionAnswer = savedQuestionAnswers.remove(questionAnswer.getQuestionId());
+            changed |= mergeQuestionAnswer(savedQuestionAnswer, questionAnswer, updatedQuestionAnswers);
+        }
+
+        for (QuestionAnswer questionAnswer : this.questionAnswers) {
+            if (!updatedQuestionAnswers.contains(questionAnswer)) {
+                questionAnswer.setReview(null);
+                changed = true;
+            }
+        }
+        changed |= sortQuestionAnswers(updatedQuestionAnswers);
+
+        // 컬렉션을 바꿔 끼우면 바뀐 것이 없어도 회고가 수정 대상이 되므로 바뀐 경우에만 교체한다.
+        if (changed) {
+            this.questionAnswers = updatedQuestionAnswers;
+            markUpdated();
+        }
+    }
+
+    // 요청에 포함된 질문의 답변만 바꾸고, 나머지 답변은 건드리지 않는다.
+    public void patch(List<QuestionAnswer> questionAnswers) {
+        Map<Long, QuestionAnswer> savedQuestionAnswers = groupByQuestion(this.questionAnswers);
+
+        boolean changed = false;
+        List<QuestionAnswer> patchedQuestionAnswers = new ArrayList<>(this.questionAnswers);
+        for (QuestionAnswer questionAnswer : questionAnswers) {
+            QuestionAnswer savedQuestionAnswer = savedQuestionAnswers.get(questionAnswer.getQuestionId());
+            if (Objects.isNull(savedQuestionAnswer)) {
+                savedQuestionAnswers.put(questionAnswer.getQuestionId(), questionAnswer);
+            }
+            changed |= mergeQuestionAnswer(savedQuestionAnswer, questionAnswer, patchedQuestionAnswers);
+        }
+        changed |= sortQuestionAnswers(patchedQuestionAnswers);
+
+        if (changed) {
+            this.questionAnswers = patchedQuestionAnswers;
+            markUpdated();
+        }
+    }
+
+    private Map<Long, QuestionAnswer> groupByQuestion(List<QuestionAnswer> questionAnswers) {
+        Map<Long, QuestionAnswer> questionAnswersByQuestion = new HashMap<>();
+        questionAnswers.forEach(questionAnswer ->
+            questionAnswersByQuestion.putIfAbsent(questionAnswer.getQuestionId(), questionAnswer));
+        return questionAnswersByQuestion;
+    }
+
+    private boolean mergeQuestionAnswer(QuestionAnswer savedQuestionAnswer, QuestionAnswer questionAnswer,
+        List<QuestionAnswer> mergedQuestionAnswers) {
+        if (Objects.isNull(savedQuestionAnswer)) {
+            questionAnswer.setReview(this);
+            mergedQuestionAnswers.add(questionAnswer);
+            return true;
+        }
+
+        if (!mergedQuestionAnswers.contains(savedQuestionAnswer)) {
+            mergedQuestionAnswers.add(savedQuestionAnswer);
+        }
+        if (savedQuestionAnswer.hasAnswerValue(questionAnswer.getAnswer().getValue())) {
+            return false;
+        }
+        savedQuestionAnswer.updateAnswerValue(questionAnswer.getAnswer().getValue());
+        return true;
     }
 }
@@ -0,0 +1,49 @@
+package com.reviewduck.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.reviewduck.exception.ReviewException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@EqualsAndHashCode
+public class ReviewCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ReviewCursor of(LocalDateTime createdAt, Long id) {
+        return new ReviewCursor(createdAt, id);
+    }
+
+    public static ReviewCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            Long id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+
+            return new ReviewCursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ReviewException("회고 목록 조회 커서가 올바르지 않습니다.");
+        }
+    }
+
+    public String encode() {
+        String value = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -10,11 +10,13 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OrderBy;
 
-import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import com.reviewduck.exception.ReviewFormException;
 
@@ -23,31 +25,42 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class ReviewForm extends BaseDate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_form_id_generator")
     @Column(nullable = false)
     private Long id;
 
-    @Column(name = "code", nullable = false, updatable = false)
+    // 저장할 때 ReviewFormIdGenerator 가 번호와 함께 채운다.
+    @NaturalId
+    @Column(name = "code", nullable = false, updatable = false, unique = true)
     private String code;
 
     @Column(nullable = false)
     private String reviewTitle;
 
-    @JoinColumn(name = "review_form_id")
-    @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    // 수정할 때마다 1씩 늘어나며, 버전마다 ReviewFormSnapshot 으로 내용을 남긴다.
+    @Column(nullable = false)
+    private int version = 1;
+
+    @OneToMany(mappedBy = "reviewForm", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @OrderBy("position asc")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ReviewFormQuestion> reviewFormQuestions;
 
     public ReviewForm(String reviewTitle, List<String> questionValues) {
         validate(reviewTitle, questionValues);
         this.reviewTitle = reviewTitle;
         this.reviewFormQuestions = setReviewFormQuestions(questionValues);
-        this.code = RandomStringUtils.randomAlphanumeric(8).toUpperCase();
+    }
+
+    void assignCode(Long id) {
+        this.code = ReviewFormCode.encode(id);
     }
 
     private List<ReviewFormQuestion> setReviewFormQuestions(List<String> questionValues) {
@@ -55,6 +68,7 @@ public class ReviewForm extends BaseDate {
             .map(ReviewFormQuestion::new)
             .collect(Collectors.toUnmodifiableList());
         sortQuestions(reviewFormQuestions);
+        reviewFormQuestions.forEach(reviewFormQuestion -> reviewFormQuestion.setReviewForm(this));
         return reviewFormQuestions;
     }
 
@@ -70,6 +84,16 @@ public class ReviewForm extends BaseDate {
         validateBlankTitle(reviewTitle);
         this.reviewTitle = reviewTitle;
         sortQuestions(reviewFormQuestions);
+        changeReviewFormQuestions(reviewFormQuestions);
+        this.version++;
+        markUpdated();
+    }
+
+    private void changeReviewFormQuestions(List<ReviewFormQuestion> reviewFormQuestions) {
+        this.reviewFormQuestions.stream()
+            .filter(reviewFormQuestion -> !reviewFormQuestions.contains(reviewFormQuestion))
+            .forEach(reviewFormQuestion -> reviewFormQuestion.setReviewForm(null));
+        reviewFormQuestions.forEach(reviewFormQuestion -> reviewFormQuestion.setReviewForm(this));
         this.reviewFormQuestions = reviewFormQuestions;
     }
 
@@ -0,0 +1,104 @@
+package com.reviewduck.domain;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 회고 폼 번호를 9자리 base-32 코드로 바꾸고, 코드를 다시 번호로 되돌린다.
+ * 번호를 45비트 안에서 섞는 일대일 변환을 거치므로 번호가 다르면 코드도 항상 다르고, 이웃한 번호의 코드는 서로 닮지 않는다.
+ * 이전 방식의 코드는 8자리라 길이로 구분한다.
+ */
+public final class ReviewFormCode {
+
+    public static final int LENGTH = 9;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int BITS_PER_CHAR = 5;
+    private static final int BITS = LENGTH * BITS_PER_CHAR;
+    private static final long MASK = (1L << BITS) - 1;
+    private static final long FIRST_MULTIPLIER = 0x1C6A_D3E4_2B97L;
+    private static final long SECOND_MULTIPLIER = 0x0F3B_59A1_6CD5L;
+    private static final long FIRST_INVERSE = inverse(FIRST_MULTIPLIER);
+    private static final long SECOND_INVERSE = inverse(SECOND_MULTIPLIER);
+    private static final int FIRST_SHIFT = 23;
+    private static final int SECOND_SHIFT = 22;
+    private static final int[] DIGITS = new int[128];
+
+    static {
+        Arrays.fill(DIGITS, -1);
+        for (int digit = 0; digit < ALPHABET.length; digit++) {
+            DIGITS[ALPHABET[digit]] = digit;
+        }
+    }
+
+    private ReviewFormCode() {
+    }
+
+    public static String encode(long id) {
+        if (id <= 0 || id > MASK) {
+            throw new IllegalStateException("회고 폼 코드로 바꿀 수 없는 번호입니다. 번호: " + id);
+        }
+
+        long value = permute(id);
+        char[] code = new char[LENGTH];
+        for (int index = LENGTH - 1; index >= 0; index--) {
+            code[index] = ALPHABET[(int)(value & (ALPHABET.length - 1))];
+            value >>>= BITS_PER_CHAR;
+        }
+        return new String(code);
+    }
+
+    public static Optional<Long> decode(String code) {
+        if (code == null || code.length() != LENGTH) {
+            return Optional.empty();
+        }
+
+        long value = 0;
+        for (int index = 0; index < LENGTH; index++) {
+            char character = code.charAt(index);
+            if (character >= DIGITS.length || DIGITS[character] < 0) {
+                return Optional.empty();
+            }
+            value = (value << BITS_PER_CHAR) | DIGITS[character];
+        }
+
+        long id = unpermute(value);
+        if (id == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(id);
+    }
+
+    private static long permute(long value) {
+        value = (value * FIRST_MULTIPLIER) & MASK;
+        value ^= value >>> FIRST_SHIFT;
+        value = (value * SECOND_MULTIPLIER) & MASK;
+        value ^= value >>> SECOND_SHIFT;
+        return value;
+    }
+
+    private static long unpermute(long value) {
+        value = unshift(value, SECOND_SHIFT);
+        value = (value * SECOND_INVERSE) & MASK;
+        value = unshift(value, FIRST_SHIFT);
+        value = (value * FIRST_INVERSE) & MASK;
+        return value;
+    }
+
+    private static long unshift(long shifted, int shift) {
+        long value = shifted;
+        for (int restored = shift; restored < BITS; restored += shift) {
+            value = shifted ^ (value >>> shift);
+        }
+        return value;
+    }
+
+    // 홀수는 2의 거듭제곱을 법으로 곱셈 역원이 있으며, 뉴턴 방법으로 한 번에 맞는 비트 수를 두 배씩 늘린다.
+    private static long inverse(long multiplier) {
+        long inverse = multiplier;
+        for (int iteration = 0; iteration < 5; iteration++) {
+            inverse *= 2 - multiplier * inverse;
+        }
+        return inverse & MASK;
+    }
+}
@@ -0,0 +1,20 @@
+package com.reviewduck.domain;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+
+/**
+ * 회고 폼 번호를 발급하면서 그 번호로 만든 코드를 함께 채운다.
+ * 번호는 저장 전에 발급되므로 코드도 INSERT 한 번에 함께 저장된다.
+ */
+public class ReviewFormIdGenerator extends TableGenerator {
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        Serializable id = super.generate(session, object);
+        ((ReviewForm)object).assignCode((Long)id);
+        return id;
+    }
+}
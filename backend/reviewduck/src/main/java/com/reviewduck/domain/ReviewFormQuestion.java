@@ -4,9 +4,16 @@ import java.util.Objects;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import com.reviewduck.exception.QuestionException;
 
@@ -15,12 +22,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@BatchSize(size = 100)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class ReviewFormQuestion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
     @Column(nullable = false)
     private Long id;
 
@@ -30,6 +39,10 @@ public class ReviewFormQuestion {
     @Column(nullable = false)
     private int position = -1;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_form_id")
+    private ReviewForm reviewForm;
+
     public ReviewFormQuestion(String value) {
         validate(value);
         this.value = value;
@@ -59,4 +72,8 @@ public class ReviewFormQuestion {
     public void setPosition(int position) {
         this.position = position;
     }
+
+    public void setReviewForm(ReviewForm reviewForm) {
+        this.reviewForm = reviewForm;
+    }
 }
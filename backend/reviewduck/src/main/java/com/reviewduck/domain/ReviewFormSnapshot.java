@@ -0,0 +1,71 @@
+package com.reviewduck.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.Immutable;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특정 버전의 회고 폼 제목과 질문 목록. 한 번 저장하면 바뀌지 않는다.
+ */
+@Entity
+@Immutable
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"review_form_id", "version"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ReviewFormSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
+    @Column(nullable = false)
+    private Long id;
+
+    @Column(name = "review_form_id", nullable = false, updatable = false)
+    private Long reviewFormId;
+
+    @Column(nullable = false, updatable = false)
+    private int version;
+
+    @Column(nullable = false, updatable = false)
+    private String reviewTitle;
+
+    @Column(updatable = false)
+    private LocalDateTime updatedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "review_form_snapshot_question",
+        joinColumns = @JoinColumn(name = "review_form_snapshot_id"))
+    @OrderColumn(name = "position")
+    private List<QuestionSnapshot> questions;
+
+    private ReviewFormSnapshot(ReviewForm reviewForm) {
+        this.reviewFormId = reviewForm.getId();
+        this.version = reviewForm.getVersion();
+        this.reviewTitle = reviewForm.getReviewTitle();
+        this.updatedAt = reviewForm.getUpdatedAt();
+        this.questions = reviewForm.getReviewFormQuestions().stream()
+            .map(QuestionSnapshot::from)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    public static ReviewFormSnapshot from(ReviewForm reviewForm) {
+        return new ReviewFormSnapshot(reviewForm);
+    }
+}
@@ -0,0 +1,52 @@
+package com.reviewduck.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 회고의 기록. 변경분만 받아 가는 클라이언트가 지워진 회고를 알 수 있도록 보존 기간 동안 남겨 둔다.
+ */
+@Entity
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ReviewTombstone implements Persistable<Long> {
+
+    // 회고 번호는 다시 쓰이지 않으므로 그대로 식별자로 쓴다.
+    @Id
+    @Column(nullable = false)
+    private Long reviewId;
+
+    @Column(nullable = false, updatable = false)
+    private Long reviewFormId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public ReviewTombstone(Long reviewId, Long reviewFormId) {
+        this.reviewId = reviewId;
+        this.reviewFormId = reviewFormId;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Long getId() {
+        return reviewId;
+    }
+
+    // 한 번 쓰고 바꾸지 않으므로, 저장할 때 먼저 조회하지 않도록 항상 새 엔티티로 본다.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
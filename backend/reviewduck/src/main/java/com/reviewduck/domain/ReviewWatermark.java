@@ -0,0 +1,52 @@
+package com.reviewduck.domain;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.reviewduck.exception.ReviewException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 클라이언트가 마지막으로 받은 회고 변경 시점. 응답의 updatedAt 과 같은 epoch 밀리초로 주고받는다.
+ * 수정 시각은 커밋 전에 정해지므로, 다음 기준점은 COMMIT_LAG 만큼 앞당겨 늦게 커밋된 변경을 놓치지 않게 한다.
+ * 그 구간의 변경은 다음 조회에서 한 번 더 받을 수 있으므로 클라이언트는 회고 번호로 덮어써야 한다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@EqualsAndHashCode
+public class ReviewWatermark {
+
+    public static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(10);
+
+    private final LocalDateTime time;
+
+    public static ReviewWatermark from(long epochMillis) {
+        if (epochMillis < 0) {
+            throw new ReviewException("회고 동기화 기준점이 올바르지 않습니다.");
+        }
+        return new ReviewWatermark(new Timestamp(epochMillis).toLocalDateTime());
+    }
+
+    // 삭제 기록이 이미 지워졌을 수 있는 기준점이면 변경분만으로는 맞출 수 없다.
+    public boolean isExpired(LocalDateTime now) {
+        return time.isBefore(now.minus(TOMBSTONE_RETENTION));
+    }
+
+    public ReviewWatermark next(LocalDateTime now) {
+        LocalDateTime committedUntil = now.minus(COMMIT_LAG);
+        if (committedUntil.isAfter(time)) {
+            return new ReviewWatermark(committedUntil);
+        }
+        return this;
+    }
+
+    public long toEpochMillis() {
+        return Timestamp.valueOf(time).getTime();
+    }
+}
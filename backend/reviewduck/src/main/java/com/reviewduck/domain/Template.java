@@ -10,10 +10,12 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OrderBy;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.reviewduck.exception.TemplateException;
 
 import lombok.AccessLevel;
@@ -21,12 +23,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-public class Template {
+public class Template extends BaseDate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
     @Column(nullable = false)
     private Long id;
 
@@ -36,9 +39,9 @@ public class Template {
     @Column(nullable = false)
     private String templateDescription;
 
-    @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
-    @JoinColumn(name = "template_id")
+    @OneToMany(mappedBy = "template", cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE})
     @OrderBy("position asc")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<TemplateQuestion> questions;
 
     public Template(String templateTitle, String templateDescription, List<String> questionValues) {
@@ -53,6 +56,7 @@ public class Template {
             .map(TemplateQuestion::new)
             .collect(Collectors.toUnmodifiableList());
         sortQuestions(questions);
+        questions.forEach(question -> question.setTemplate(this));
         return questions;
     }
 
@@ -71,6 +75,15 @@ public class Template {
         this.templateTitle = templateTitle;
         this.templateDescription = templateDescription;
         sortQuestions(questions);
+        changeQuestions(questions);
+        markUpdated();
+    }
+
+    private void changeQuestions(List<TemplateQuestion> questions) {
+        this.questions.stream()
+            .filter(question -> !questions.contains(question))
+            .forEach(question -> question.setTemplate(null));
+        questions.forEach(question -> question.setTemplate(this));
         this.questions = questions;
     }
 
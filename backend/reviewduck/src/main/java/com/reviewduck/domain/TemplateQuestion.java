@@ -4,11 +4,17 @@ import java.util.Objects;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.reviewduck.exception.QuestionException;
 
 import lombok.AccessLevel;
@@ -16,13 +22,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "template_question")
 public class TemplateQuestion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
     @Column(nullable = false)
     private Long id;
 
@@ -32,6 +39,10 @@ public class TemplateQuestion {
     @Column(nullable = false)
     private int position = -1;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id")
+    private Template template;
+
     public TemplateQuestion(String value) {
         validate(value);
         this.value = value;
@@ -61,4 +72,8 @@ public class TemplateQuestion {
     public void setPosition(int position) {
         this.position = position;
     }
+
+    public void setTemplate(Template template) {
+        this.template = template;
+    }
 }
@@ -0,0 +1,32 @@
+@GenericGenerators({
+    @GenericGenerator(
+        name = "pooled_id_generator",
+        strategy = "org.hibernate.id.enhanced.TableGenerator",
+        parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = "id_generator"),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = "sequence_name"),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = "next_val"),
+            @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = "50"),
+            @Parameter(name = TableGenerator.OPT_PARAM, value = "pooled-lo")
+        }
+    ),
+    @GenericGenerator(
+        name = "review_form_id_generator",
+        strategy = "com.reviewduck.domain.ReviewFormIdGenerator",
+        parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = "id_generator"),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = "sequence_name"),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = "next_val"),
+            @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = "50"),
+            @Parameter(name = TableGenerator.OPT_PARAM, value = "pooled-lo")
+        }
+    )
+})
+package com.reviewduck.domain;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.GenericGenerators;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
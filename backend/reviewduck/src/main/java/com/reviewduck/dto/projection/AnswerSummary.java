@@ -0,0 +1,10 @@
+package com.reviewduck.dto.projection;
+
+public interface AnswerSummary {
+
+    Long getReviewId();
+
+    String getQuestionValue();
+
+    String getAnswerValue();
+}
@@ -0,0 +1,10 @@
+package com.reviewduck.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface CollectionSummary {
+
+    long getCount();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,8 @@
+package com.reviewduck.dto.projection;
+
+public interface ReviewFormCodeSummary {
+
+    Long getId();
+
+    String getCode();
+}
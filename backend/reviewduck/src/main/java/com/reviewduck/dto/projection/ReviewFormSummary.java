@@ -0,0 +1,14 @@
+package com.reviewduck.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface ReviewFormSummary {
+
+    Long getId();
+
+    String getReviewTitle();
+
+    int getVersion();
+
+    LocalDateTime getUpdatedAt();
+}
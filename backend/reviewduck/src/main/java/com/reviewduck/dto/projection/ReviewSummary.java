@@ -0,0 +1,14 @@
+package com.reviewduck.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface ReviewSummary {
+
+    Long getId();
+
+    String getNickname();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
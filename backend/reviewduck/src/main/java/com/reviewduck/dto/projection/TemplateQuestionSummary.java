@@ -0,0 +1,6 @@
+package com.reviewduck.dto.projection;
+
+public interface TemplateQuestionSummary extends QuestionSummary {
+
+    Long getTemplateId();
+}
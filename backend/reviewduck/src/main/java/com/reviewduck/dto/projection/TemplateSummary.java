@@ -0,0 +1,14 @@
+package com.reviewduck.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface TemplateSummary {
+
+    Long getId();
+
+    String getTemplateTitle();
+
+    String getTemplateDescription();
+
+    LocalDateTime getUpdatedAt();
+}
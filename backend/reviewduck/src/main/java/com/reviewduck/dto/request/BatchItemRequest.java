@@ -0,0 +1,37 @@
+package com.reviewduck.dto.request;
+
+import java.util.Map;
+
+import javax.validation.constraints.NotBlank;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Getter
+@ToString
+public class BatchItemRequest {
+
+    private static final String GET = "GET";
+    private static final String HEAD = "HEAD";
+
+    @NotBlank(message = "요청 메서드는 비어있을 수 없습니다.")
+    private String method;
+
+    @NotBlank(message = "요청 주소는 비어있을 수 없습니다.")
+    private String path;
+
+    private Map<String, String> headers;
+
+    private JsonNode body;
+
+    public boolean isReadOnly() {
+        return GET.equalsIgnoreCase(method) || HEAD.equalsIgnoreCase(method);
+    }
+}
@@ -0,0 +1,32 @@
+package com.reviewduck.dto.request;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Getter
+@ToString
+public class BatchRequest {
+
+    @NotNull(message = "일괄 요청 목록은 비어있을 수 없습니다.")
+    @Size(max = 20, message = "일괄 요청은 20개까지 보낼 수 있습니다.")
+    @Valid
+    private List<BatchItemRequest> requests;
+
+    // true 면 처음 실패한 요청 뒤의 요청은 실행하지 않는다.
+    private boolean failFast;
+
+    public boolean isReadOnly() {
+        return requests.stream().allMatch(BatchItemRequest::isReadOnly);
+    }
+}
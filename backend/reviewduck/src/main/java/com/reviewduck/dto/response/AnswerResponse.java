@@ -2,6 +2,7 @@ package com.reviewduck.dto.response;
 
 import com.reviewduck.domain.Answer;
 import com.reviewduck.domain.ReviewFormQuestion;
+import com.reviewduck.dto.projection.AnswerSummary;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,4 +17,8 @@ public class AnswerResponse {
     public static AnswerResponse of(ReviewFormQuestion reviewFormQuestion, Answer answer) {
         return new AnswerResponse(reviewFormQuestion.getValue(), answer.getValue());
     }
+
+    public static AnswerResponse from(AnswerSummary answer) {
+        return new AnswerResponse(answer.getQuestionValue(), answer.getAnswerValue());
+    }
 }
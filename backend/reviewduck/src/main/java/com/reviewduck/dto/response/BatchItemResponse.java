@@ -0,0 +1,39 @@
+package com.reviewduck.dto.response;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class BatchItemResponse {
+
+    private static final String MESSAGE = "message";
+
+    private int status;
+    private Map<String, String> headers;
+    private JsonNode body;
+
+    public static BatchItemResponse of(int status, Map<String, String> headers, JsonNode body) {
+        return new BatchItemResponse(status, headers, body);
+    }
+
+    public static BatchItemResponse error(HttpStatus status, String message) {
+        ObjectNode body = JsonNodeFactory.instance.objectNode().put(MESSAGE, message);
+        return new BatchItemResponse(status.value(), Map.of(), body);
+    }
+
+    public boolean isFailed() {
+        return status >= HttpStatus.BAD_REQUEST.value();
+    }
+}
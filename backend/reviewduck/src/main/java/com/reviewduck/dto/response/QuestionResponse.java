@@ -1,7 +1,9 @@
 package com.reviewduck.dto.response;
 
+import com.reviewduck.domain.QuestionSnapshot;
 import com.reviewduck.domain.ReviewFormQuestion;
 import com.reviewduck.domain.TemplateQuestion;
+import com.reviewduck.dto.projection.QuestionSummary;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,7 +20,15 @@ public class QuestionResponse {
         return new QuestionResponse(reviewFormQuestion.getId(), reviewFormQuestion.getValue());
     }
 
+    public static QuestionResponse from(QuestionSnapshot question) {
+        return new QuestionResponse(question.getQuestionId(), question.getValue());
+    }
+
     public static QuestionResponse from(TemplateQuestion question) {
         return new QuestionResponse(question.getId(), question.getValue());
     }
+
+    public static QuestionResponse from(QuestionSummary question) {
+        return new QuestionResponse(question.getQuestionId(), question.getQuestionValue());
+    }
 }
@@ -0,0 +1,25 @@
+package com.reviewduck.dto.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ReviewBulkCreateResponse {
+
+    private int createdCount;
+    private int failedCount;
+    private List<ReviewCreateResultResponse> results;
+
+    public static ReviewBulkCreateResponse from(List<ReviewCreateResultResponse> results) {
+        int createdCount = (int)results.stream()
+            .filter(ReviewCreateResultResponse::isCreated)
+            .count();
+        return new ReviewBulkCreateResponse(createdCount, results.size() - createdCount, results);
+    }
+}
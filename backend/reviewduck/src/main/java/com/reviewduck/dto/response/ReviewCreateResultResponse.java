@@ -0,0 +1,31 @@
+package com.reviewduck.dto.response;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ReviewCreateResultResponse {
+
+    private int index;
+    private int status;
+    private Long reviewId;
+    private String message;
+
+    public static ReviewCreateResultResponse created(int index, Long reviewId) {
+        return new ReviewCreateResultResponse(index, HttpStatus.CREATED.value(), reviewId, null);
+    }
+
+    public static ReviewCreateResultResponse failed(int index, HttpStatus status, String message) {
+        return new ReviewCreateResultResponse(index, status.value(), null, message);
+    }
+
+    public boolean isCreated() {
+        return status == HttpStatus.CREATED.value();
+    }
+}
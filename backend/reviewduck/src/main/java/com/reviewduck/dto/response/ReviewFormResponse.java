@@ -4,7 +4,9 @@ import java.sql.Timestamp;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormSnapshot;
+import com.reviewduck.dto.projection.QuestionSummary;
+import com.reviewduck.dto.projection.ReviewFormSummary;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -15,16 +17,29 @@ import lombok.Getter;
 public class ReviewFormResponse {
 
     private String reviewTitle;
+    private int version;
     private long updatedAt;
     private List<QuestionResponse> questions;
 
-    public static ReviewFormResponse from(ReviewForm reviewForm) {
-        List<QuestionResponse> questionResponses = reviewForm.getReviewFormQuestions().stream()
+    public static ReviewFormResponse of(ReviewFormSummary reviewForm, List<QuestionSummary> questions) {
+        List<QuestionResponse> questionResponses = questions.stream()
             .map(QuestionResponse::from)
             .collect(Collectors.toUnmodifiableList());
 
         return new ReviewFormResponse(reviewForm.getReviewTitle()
+            , reviewForm.getVersion()
             , Timestamp.valueOf(reviewForm.getUpdatedAt()).getTime()
             , questionResponses);
     }
+
+    public static ReviewFormResponse from(ReviewFormSnapshot snapshot) {
+        List<QuestionResponse> questionResponses = snapshot.getQuestions().stream()
+            .map(QuestionResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        return new ReviewFormResponse(snapshot.getReviewTitle()
+            , snapshot.getVersion()
+            , Timestamp.valueOf(snapshot.getUpdatedAt()).getTime()
+            , questionResponses);
+    }
 }
@@ -0,0 +1,41 @@
+package com.reviewduck.dto.response;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.QuestionSummary;
+import com.reviewduck.dto.projection.ReviewFormSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewFormWithReviewsResponse {
+
+    private String reviewTitle;
+    private long updatedAt;
+    private List<QuestionResponse> questions;
+    private List<ReviewResponse> reviews;
+
+    public static ReviewFormWithReviewsResponse of(ReviewFormSummary reviewForm, List<QuestionSummary> questions,
+        List<ReviewSummary> reviews, Map<Long, List<AnswerSummary>> answers) {
+        List<QuestionResponse> questionResponses = questions.stream()
+            .map(QuestionResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        List<ReviewResponse> reviewResponses = reviews.stream()
+            .map(review -> ReviewResponse.of(review, answers.getOrDefault(review.getId(), List.of())))
+            .collect(Collectors.toUnmodifiableList());
+
+        return new ReviewFormWithReviewsResponse(reviewForm.getReviewTitle(),
+            Timestamp.valueOf(reviewForm.getUpdatedAt()).getTime(),
+            questionResponses,
+            reviewResponses);
+    }
+}
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.reviewduck.domain.Review;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -27,4 +29,13 @@ public class ReviewResponse {
         return new ReviewResponse(review.getId(), review.getNickname(), answerResponses,
             Timestamp.valueOf(review.getUpdatedAt()).getTime());
     }
+
+    public static ReviewResponse of(ReviewSummary review, List<AnswerSummary> answers) {
+        List<AnswerResponse> answerResponses = answers.stream()
+            .map(AnswerResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        return new ReviewResponse(review.getId(), review.getNickname(), answerResponses,
+            Timestamp.valueOf(review.getUpdatedAt()).getTime());
+    }
 }
@@ -0,0 +1,42 @@
+package com.reviewduck.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.reviewduck.domain.ReviewWatermark;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ReviewsDeltaResponse {
+
+    private List<ReviewResponse> reviews;
+    private List<Long> deletedReviewIds;
+    private long watermark;
+    // true 면 변경분이 아닌 전체 회고이므로, 클라이언트는 가지고 있던 회고를 모두 버리고 새로 채워야 한다.
+    private boolean reset;
+
+    public static ReviewsDeltaResponse of(List<ReviewSummary> reviews, Map<Long, List<AnswerSummary>> answers,
+        List<Long> deletedReviewIds, ReviewWatermark watermark) {
+        return new ReviewsDeltaResponse(toReviewResponses(reviews, answers), deletedReviewIds,
+            watermark.toEpochMillis(), false);
+    }
+
+    public static ReviewsDeltaResponse reset(List<ReviewSummary> reviews, Map<Long, List<AnswerSummary>> answers,
+        ReviewWatermark watermark) {
+        return new ReviewsDeltaResponse(toReviewResponses(reviews, answers), List.of(),
+            watermark.toEpochMillis(), true);
+    }
+
+    private static List<ReviewResponse> toReviewResponses(List<ReviewSummary> reviews,
+        Map<Long, List<AnswerSummary>> answers) {
+        return reviews.stream()
+            .map(review -> ReviewResponse.of(review, answers.getOrDefault(review.getId(), List.of())))
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
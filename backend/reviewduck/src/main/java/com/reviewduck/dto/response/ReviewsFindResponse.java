@@ -2,10 +2,15 @@ package com.reviewduck.dto.response;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import com.reviewduck.domain.Review;
-import com.reviewduck.domain.ReviewForm;
+import org.springframework.data.domain.Slice;
+
+import com.reviewduck.domain.ReviewCursor;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.ReviewFormSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,14 +22,36 @@ public class ReviewsFindResponse {
     private String reviewFormTitle;
     private long updatedAt;
     private List<ReviewResponse> reviews;
+    private String nextCursor;
 
-    public static ReviewsFindResponse of(ReviewForm reviewForm, List<Review> reviews) {
-        List<ReviewResponse> reviewResponses = reviews.stream()
-            .map(ReviewResponse::from)
-            .collect(Collectors.toUnmodifiableList());
+    public static ReviewsFindResponse of(ReviewFormSummary reviewForm, List<ReviewSummary> reviews,
+        Map<Long, List<AnswerSummary>> answers) {
+        return new ReviewsFindResponse(reviewForm.getReviewTitle(),
+            Timestamp.valueOf(reviewForm.getUpdatedAt()).getTime(),
+            toReviewResponses(reviews, answers),
+            null);
+    }
+
+    public static ReviewsFindResponse of(ReviewFormSummary reviewForm, Slice<ReviewSummary> reviews,
+        Map<Long, List<AnswerSummary>> answers) {
+        List<ReviewSummary> content = reviews.getContent();
+
+        String nextCursor = null;
+        if (reviews.hasNext()) {
+            ReviewSummary last = content.get(content.size() - 1);
+            nextCursor = ReviewCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
 
         return new ReviewsFindResponse(reviewForm.getReviewTitle(),
             Timestamp.valueOf(reviewForm.getUpdatedAt()).getTime(),
-            reviewResponses);
+            toReviewResponses(content, answers),
+            nextCursor);
+    }
+
+    private static List<ReviewResponse> toReviewResponses(List<ReviewSummary> reviews,
+        Map<Long, List<AnswerSummary>> answers) {
+        return reviews.stream()
+            .map(review -> ReviewResponse.of(review, answers.getOrDefault(review.getId(), List.of())))
+            .collect(Collectors.toUnmodifiableList());
     }
 }
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.reviewduck.domain.Template;
+import com.reviewduck.dto.projection.QuestionSummary;
+import com.reviewduck.dto.projection.TemplateSummary;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -28,4 +30,13 @@ public class TemplateResponse {
         return new TemplateResponse(template.getId(), template.getTemplateTitle(), template.getTemplateDescription(),
             questionResponses);
     }
+
+    public static TemplateResponse of(TemplateSummary template, List<? extends QuestionSummary> questions) {
+        List<QuestionResponse> questionResponses = questions.stream()
+            .map(QuestionResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        return new TemplateResponse(template.getId(), template.getTemplateTitle(), template.getTemplateDescription(),
+            questionResponses);
+    }
 }
@@ -1,9 +1,11 @@
 package com.reviewduck.dto.response;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import com.reviewduck.domain.Template;
+import com.reviewduck.dto.projection.TemplateQuestionSummary;
+import com.reviewduck.dto.projection.TemplateSummary;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,9 +16,10 @@ public class TemplatesFindResponse {
 
     private List<TemplateResponse> templates;
 
-    public static TemplatesFindResponse from(List<Template> templates) {
+    public static TemplatesFindResponse of(List<TemplateSummary> templates,
+        Map<Long, List<TemplateQuestionSummary>> questions) {
         List<TemplateResponse> templateResponses = templates.stream()
-            .map(TemplateResponse::from)
+            .map(template -> TemplateResponse.of(template, questions.getOrDefault(template.getId(), List.of())))
             .collect(Collectors.toUnmodifiableList());
 
         return new TemplatesFindResponse(templateResponses);
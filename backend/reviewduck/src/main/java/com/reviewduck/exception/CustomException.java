@@ -1,8 +1,9 @@
 package com.reviewduck.exception;
 
+// 잘못된 요청마다 던지는 예외라 스택 트레이스를 만들지 않는다. 원인은 메시지로만 전달한다.
 public class CustomException extends RuntimeException {
 
     public CustomException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,14 @@
+package com.reviewduck.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends CustomException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,227 @@
+package com.reviewduck.feed;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.http.MediaType;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.dto.response.ReviewResponse;
+import com.reviewduck.exception.ServiceUnavailableException;
+import com.reviewduck.service.ReviewChangedEvent;
+import com.reviewduck.service.ReviewFormDeletedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회고 폼별 구독자 목록을 들고, 회고가 작성, 수정, 삭제되어 커밋되면 그 회고 폼의 구독자에게 Server-Sent Events 로 보낸다.
+ * 연결은 서블릿 비동기 요청으로 열어 두기만 하고, 보낼 이벤트가 있을 때만 작은 공용 스레드 풀이 구독자 큐를 비운다.
+ * 이벤트 본문은 구독자 수와 상관없이 한 번만 직렬화하며, 큐가 가득 찰 만큼 받지 못하는 구독자는 연결을 끊는다.
+ * 이벤트 하나를 SEND_TIMEOUT_MILLIS 안에 보내지 못하는 구독자도 끊어, 느린 클라이언트가 전송 스레드를 붙잡지 못하게 한다.
+ */
+@Component
+@ManagedResource(objectName = "com.reviewduck:type=ReviewFeed,name=reviewFeed")
+@Slf4j
+public class ReviewFeed {
+
+    private static final int MAX_SUBSCRIBERS = 10_000;
+    private static final int BUFFER_SIZE = 64;
+    private static final int DELIVERY_THREADS = 4;
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000;
+    private static final long RECONNECT_MILLIS = 3_000;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 30 * 1000;
+    private static final long SEND_TIMEOUT_MILLIS = 5_000;
+    private static final long SEND_CHECK_INTERVAL_MILLIS = 1_000;
+    private static final int RETRY_AFTER_SECONDS = 5;
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService deliveryExecutor;
+    private final Map<String, Set<ReviewFeedSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ReviewFeed(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("review-feed-");
+        threadFactory.setDaemon(true);
+        this.deliveryExecutor = Executors.newFixedThreadPool(DELIVERY_THREADS, threadFactory);
+    }
+
+    public SseEmitter subscribe(String code) {
+        if (subscriberCount.incrementAndGet() > MAX_SUBSCRIBERS) {
+            subscriberCount.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("실시간 회고 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                RETRY_AFTER_SECONDS);
+        }
+
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        ReviewFeedSubscriber subscriber = new ReviewFeedSubscriber(code, emitter, deliveryExecutor, BUFFER_SIZE);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // 목록을 지우는 unsubscribe 와 엇갈리지 않도록 추가와 제거 모두 compute 안에서 한다.
+        subscribers.compute(code, (key, codeSubscribers) -> {
+            Set<ReviewFeedSubscriber> added = Objects.isNull(codeSubscribers)
+                ? ConcurrentHashMap.newKeySet()
+                : codeSubscribers;
+            added.add(subscriber);
+            return added;
+        });
+        // 첫 이벤트를 보내야 응답 헤더가 나가므로, 연결되자마자 재연결 간격을 알려 준다.
+        subscriber.offer(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        return emitter;
+    }
+
+    private void unsubscribe(ReviewFeedSubscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.getCode(), (key, codeSubscribers) -> {
+            removed[0] = codeSubscribers.remove(subscriber);
+            return codeSubscribers.isEmpty() ? null : codeSubscribers;
+        });
+        if (removed[0]) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    // 커밋된 뒤에 호출되므로 여기서 실패해도 요청은 성공해야 한다. 보내지 못한 이벤트는 로그만 남긴다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        Set<ReviewFeedSubscriber> codeSubscribers = subscribers.get(event.getCode());
+        if (Objects.isNull(codeSubscribers)) {
+            return;
+        }
+
+        String data;
+        try {
+            data = serialize(event);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("회고 변경 이벤트를 직렬화할 수 없습니다. code = {}, reviewId = {}",
+                event.getCode(), event.getReviewId(), e);
+            return;
+        }
+
+        publishedCount.incrementAndGet();
+        String name = event.getType().name().toLowerCase();
+        for (ReviewFeedSubscriber subscriber : codeSubscribers) {
+            if (!subscriber.offer(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON))) {
+                evict(subscriber);
+            }
+        }
+    }
+
+    private String serialize(ReviewChangedEvent event) throws JsonProcessingException {
+        if (event.getType() == ReviewChangedEvent.Type.DELETED) {
+            return objectMapper.writeValueAsString(Map.of("reviewId", event.getReviewId()));
+        }
+        return objectMapper.writeValueAsString(ReviewResponse.from(event.getReview()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFormDeleted(ReviewFormDeletedEvent event) {
+        Set<ReviewFeedSubscriber> codeSubscribers = subscribers.get(event.getCode());
+        if (Objects.nonNull(codeSubscribers)) {
+            List.copyOf(codeSubscribers).forEach(this::close);
+        }
+    }
+
+    // 프록시나 브라우저가 놀고 있는 연결을 끊지 않게 하고, 이미 끊긴 연결은 보내다 실패할 때 정리한다.
+    @Scheduled(initialDelay = HEARTBEAT_INTERVAL_MILLIS, fixedDelay = HEARTBEAT_INTERVAL_MILLIS)
+    public void sendHeartbeat() {
+        subscribers.values().stream()
+            .flatMap(Set::stream)
+            .collect(Collectors.toUnmodifiableList())
+            .forEach(subscriber -> {
+                if (!subscriber.offer(SseEmitter.event().comment("heartbeat"))) {
+                    evict(subscriber);
+                }
+            });
+    }
+
+    @Scheduled(initialDelay = SEND_CHECK_INTERVAL_MILLIS, fixedDelay = SEND_CHECK_INTERVAL_MILLIS)
+    public void evictStalledSubscribers() {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(SEND_TIMEOUT_MILLIS);
+        subscribers.values().stream()
+            .flatMap(Set::stream)
+            .filter(subscriber -> subscriber.isSendTimedOut(timeoutNanos))
+            .collect(Collectors.toUnmodifiableList())
+            .forEach(subscriber -> {
+                if (subscriber.timeOut()) {
+                    unsubscribe(subscriber);
+                    evictedCount.incrementAndGet();
+                    log.info("이벤트를 보내는 데 너무 오래 걸리는 구독자의 연결을 끊습니다. code = {}", subscriber.getCode());
+                }
+            });
+    }
+
+    private void evict(ReviewFeedSubscriber subscriber) {
+        if (close(subscriber)) {
+            evictedCount.incrementAndGet();
+            log.info("이벤트를 제때 받지 못한 구독자의 연결을 끊습니다. code = {}", subscriber.getCode());
+        }
+    }
+
+    // 연결이 완료 콜백을 부르기 전에도 목록과 구독자 수에서 바로 빠지도록 직접 지운다.
+    private boolean close(ReviewFeedSubscriber subscriber) {
+        boolean closed = subscriber.close();
+        unsubscribe(subscriber);
+        return closed;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        subscribers.values().stream()
+            .flatMap(Set::stream)
+            .collect(Collectors.toUnmodifiableList())
+            .forEach(this::close);
+        deliveryExecutor.shutdown();
+    }
+
+    @ManagedAttribute
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @ManagedAttribute
+    public int getSubscribedFormCount() {
+        return subscribers.size();
+    }
+
+    @ManagedAttribute
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    @ManagedAttribute
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    @ManagedAttribute
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,131 @@
+package com.reviewduck.feed;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 구독자 한 명의 연결과 아직 보내지 못한 이벤트를 담는다.
+ * 이벤트는 크기가 정해진 큐에 쌓고, 보내는 일은 공용 전송 스레드가 구독자마다 한 번에 하나씩만 맡는다.
+ * 한 번 맡을 때 MAX_EVENTS_PER_DRAIN 개까지만 보내고 다른 구독자에게 스레드를 넘기며,
+ * 보내는 중에 막힌 구독자는 timeOut 으로 닫고 전송 스레드를 깨워 풀로 돌려보낸다.
+ */
+class ReviewFeedSubscriber {
+
+    private static final int MAX_EVENTS_PER_DRAIN = 16;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final String code;
+    @Getter(AccessLevel.PACKAGE)
+    private final SseEmitter emitter;
+    private final Executor deliveryExecutor;
+    private final BlockingQueue<SseEventBuilder> pendingEvents;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Object sendLock = new Object();
+    private Thread sendingThread;
+    private long sendStartedNanos;
+
+    ReviewFeedSubscriber(String code, SseEmitter emitter, Executor deliveryExecutor, int bufferSize) {
+        this.code = code;
+        this.emitter = emitter;
+        this.deliveryExecutor = deliveryExecutor;
+        this.pendingEvents = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    // 큐가 가득 찼으면 false 를 돌려주고, 느린 구독자로 보고 끊는 일은 호출한 쪽이 정한다.
+    boolean offer(SseEventBuilder event) {
+        if (closed.get() || !pendingEvents.offer(event)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            deliveryExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEventBuilder event;
+            int sent = 0;
+            while (sent++ < MAX_EVENTS_PER_DRAIN && !closed.get() && (event = pendingEvents.poll()) != null) {
+                send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            closed.set(true);
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+
+        // 남은 이벤트와, 마지막으로 꺼낸 뒤 표시를 지우기 전에 들어온 이벤트는 다시 맡겨 다른 구독자 뒤에서 보낸다.
+        if (!closed.get() && !pendingEvents.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void send(SseEventBuilder event) throws IOException {
+        synchronized (sendLock) {
+            sendingThread = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+        }
+        boolean timedOut;
+        try {
+            emitter.send(event);
+        } finally {
+            // 시간 초과로 건 인터럽트가 이 스레드가 다음에 맡을 구독자에게 남지 않도록 여기서 지운다.
+            synchronized (sendLock) {
+                sendingThread = null;
+                timedOut = Thread.interrupted();
+            }
+        }
+        if (timedOut) {
+            emitter.complete();
+        }
+    }
+
+    boolean isSendTimedOut(long timeoutNanos) {
+        synchronized (sendLock) {
+            return Objects.nonNull(sendingThread) && System.nanoTime() - sendStartedNanos > timeoutNanos;
+        }
+    }
+
+    // 보내는 중이면 연결을 닫는 일은 전송 스레드에 맡긴다. 보내는 동안에는 emitter 를 닫을 수 없다.
+    boolean timeOut() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        pendingEvents.clear();
+        synchronized (sendLock) {
+            if (Objects.nonNull(sendingThread)) {
+                sendingThread.interrupt();
+                return true;
+            }
+        }
+        emitter.complete();
+        return true;
+    }
+
+    // 이미 닫힌 구독자면 false 를 돌려준다.
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        pendingEvents.clear();
+        emitter.complete();
+        return true;
+    }
+}
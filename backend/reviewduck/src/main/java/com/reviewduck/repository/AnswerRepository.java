@@ -1,8 +1,25 @@
 package com.reviewduck.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.reviewduck.domain.Answer;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
+
+    @Query("select a.id from Answer a "
+        + "where a.id > :afterId "
+        + "and not exists (select qa.id from QuestionAnswer qa where qa.answer = a) "
+        + "order by a.id")
+    List<Long> findOrphanIds(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Answer a where a.id in :ids "
+        + "and not exists (select qa.id from QuestionAnswer qa where qa.answer = a)")
+    int deleteOrphans(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,36 @@
+package com.reviewduck.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.reviewduck.domain.QuestionAnswer;
+
+public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer, Long> {
+
+    @Query("select qa.answer.id from QuestionAnswer qa where qa.review.id = :reviewId")
+    List<Long> findAnswerIdsByReviewId(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query("delete from QuestionAnswer qa where qa.review.id = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    // 회고 폼의 회고에 달린 답변 연결과, 회고에서 빠졌지만 아직 회고 폼의 질문을 가리키는 답변 연결을 함께 지운다.
+    @Modifying
+    @Query("delete from QuestionAnswer qa "
+        + "where qa.review.id in (select r.id from Review r where r.reviewForm.id = :reviewFormId) "
+        + "or qa.reviewFormQuestion.id in "
+        + "(select q.id from ReviewFormQuestion q where q.reviewForm.id = :reviewFormId)")
+    int deleteByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Query("select qa.id from QuestionAnswer qa where qa.id > :afterId and qa.review is null order by qa.id")
+    List<Long> findOrphanIds(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from QuestionAnswer qa where qa.id in :ids and qa.review is null")
+    int deleteOrphans(@Param("ids") List<Long> ids);
+}
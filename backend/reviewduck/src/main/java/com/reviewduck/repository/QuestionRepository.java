@@ -1,8 +1,29 @@
 package com.reviewduck.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.reviewduck.domain.ReviewFormQuestion;
 
 public interface QuestionRepository extends JpaRepository<ReviewFormQuestion, Long> {
+
+    @Modifying
+    @Query("delete from ReviewFormQuestion q where q.reviewForm.id = :reviewFormId")
+    int deleteByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    // 회고 폼에서 빠진 질문이라도 남아 있는 답변이 가리키면 지우지 않는다.
+    @Query("select q.id from ReviewFormQuestion q where q.id > :afterId and q.reviewForm is null "
+        + "and not exists (select qa.id from QuestionAnswer qa where qa.reviewFormQuestion = q) "
+        + "order by q.id")
+    List<Long> findOrphanIds(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ReviewFormQuestion q where q.id in :ids and q.reviewForm is null "
+        + "and not exists (select qa.id from QuestionAnswer qa where qa.reviewFormQuestion = q)")
+    int deleteOrphans(@Param("ids") List<Long> ids);
 }
@@ -1,11 +1,59 @@
 package com.reviewduck.repository;
 
+import static org.hibernate.jpa.QueryHints.*;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormCode;
+import com.reviewduck.dto.projection.QuestionSummary;
+import com.reviewduck.dto.projection.ReviewFormSummary;
+
+public interface ReviewFormRepository extends JpaRepository<ReviewForm, Long>, ReviewFormRepositoryCustom {
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ReviewForm rf where rf.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
+
+    default Optional<ReviewFormSummary> findSummaryByCode(String code) {
+        return ReviewFormCode.decode(code)
+            .map(id -> findSummaryByIdAndCode(id, code))
+            .orElseGet(() -> findSummaryByLegacyCode(code));
+    }
+
+    @Query("select rf.id as id, rf.reviewTitle as reviewTitle, rf.version as version, rf.updatedAt as updatedAt "
+        + "from ReviewForm rf "
+        + "where rf.id = :id and rf.code = :code")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Optional<ReviewFormSummary> findSummaryByIdAndCode(@Param("id") Long id, @Param("code") String code);
+
+    @Query("select rf.id as id, rf.reviewTitle as reviewTitle, rf.version as version, rf.updatedAt as updatedAt "
+        + "from ReviewForm rf "
+        + "where rf.code = :code")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Optional<ReviewFormSummary> findSummaryByLegacyCode(@Param("code") String code);
+
+    @Query("select rf.code from ReviewForm rf")
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    Stream<String> streamAllCodes();
 
-public interface ReviewFormRepository extends JpaRepository<ReviewForm, Long> {
-    Optional<ReviewForm> findByCode(String code);
+    @Query("select q.id as questionId, q.value as questionValue "
+        + "from ReviewFormQuestion q "
+        + "where q.reviewForm.id = :reviewFormId "
+        + "order by q.position asc")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<QuestionSummary> findQuestionSummariesByReviewFormId(@Param("reviewFormId") Long reviewFormId);
 }
@@ -0,0 +1,9 @@
+package com.reviewduck.repository;
+
+import java.util.Optional;
+
+import com.reviewduck.domain.ReviewForm;
+
+public interface ReviewFormRepositoryCustom {
+    Optional<ReviewForm> findByCode(String code);
+}
@@ -0,0 +1,34 @@
+package com.reviewduck.repository;
+
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+
+import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormCode;
+
+public class ReviewFormRepositoryImpl implements ReviewFormRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public ReviewFormRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<ReviewForm> findByCode(String code) {
+        return ReviewFormCode.decode(code)
+            .map(id -> Optional.ofNullable(entityManager.find(ReviewForm.class, id))
+                .filter(reviewForm -> reviewForm.getCode().equals(code)))
+            .orElseGet(() -> findByLegacyCode(code));
+    }
+
+    // 번호로 되돌릴 수 없는 이전 방식의 코드는 코드 컬럼으로 찾는다.
+    private Optional<ReviewForm> findByLegacyCode(String code) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(ReviewForm.class)
+            .loadOptional(code);
+    }
+}
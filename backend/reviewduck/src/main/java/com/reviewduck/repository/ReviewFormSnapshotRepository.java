@@ -0,0 +1,33 @@
+package com.reviewduck.repository;
+
+import static org.hibernate.annotations.QueryHints.*;
+
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.reviewduck.domain.ReviewFormSnapshot;
+
+public interface ReviewFormSnapshotRepository extends JpaRepository<ReviewFormSnapshot, Long> {
+
+    @EntityGraph(attributePaths = "questions")
+    Optional<ReviewFormSnapshot> findByReviewFormIdAndVersion(Long reviewFormId, int version);
+
+    // 값 타입 컬렉션은 JPQL 로 지울 수 없다. 지우는 테이블을 알려 주어야 2차 캐시 전체를 비우지 않는다.
+    @Modifying
+    @Query(value = "delete from review_form_snapshot_question where review_form_snapshot_id in "
+        + "(select id from review_form_snapshot where review_form_id = :reviewFormId)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "review_form_snapshot_question"))
+    int deleteQuestionsByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Modifying
+    @Query("delete from ReviewFormSnapshot s where s.reviewFormId = :reviewFormId")
+    int deleteByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+}
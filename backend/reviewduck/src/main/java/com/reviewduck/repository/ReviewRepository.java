@@ -1,14 +1,99 @@
 package com.reviewduck.repository;
 
+import static org.hibernate.jpa.QueryHints.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.reviewduck.domain.Review;
-import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.CollectionSummary;
+import com.reviewduck.dto.projection.ReviewFormCodeSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByReviewForm(ReviewForm reviewForm);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Review r where r.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Review r where r.reviewForm.id = :reviewFormId")
+    int deleteByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Query("select f.id as id, f.code as code from Review r join r.reviewForm f where r.id = :id")
+    Optional<ReviewFormCodeSummary> findReviewFormCodeById(@Param("id") Long id);
+
+    @Query("select r from Review r "
+        + "where r.reviewForm.id = :reviewFormId "
+        + "order by r.createdAt asc, r.id asc")
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "100"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    Stream<Review> streamByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Query("select r.id as id, r.nickname as nickname, r.createdAt as createdAt, r.updatedAt as updatedAt "
+        + "from Review r "
+        + "where r.reviewForm.id = :reviewFormId "
+        + "order by r.createdAt asc, r.id asc")
+    List<ReviewSummary> findSummariesByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Query("select r.id as id, r.nickname as nickname, r.createdAt as createdAt, r.updatedAt as updatedAt "
+        + "from Review r "
+        + "where r.reviewForm.id = :reviewFormId "
+        + "order by r.createdAt asc, r.id asc")
+    Slice<ReviewSummary> findSummariesByReviewFormId(@Param("reviewFormId") Long reviewFormId, Pageable pageable);
+
+    @Query("select r.id as id, r.nickname as nickname, r.createdAt as createdAt, r.updatedAt as updatedAt "
+        + "from Review r "
+        + "where r.reviewForm.id = :reviewFormId "
+        + "and (r.createdAt > :createdAt or (r.createdAt = :createdAt and r.id > :id)) "
+        + "order by r.createdAt asc, r.id asc")
+    Slice<ReviewSummary> findSummariesByReviewFormIdAfter(@Param("reviewFormId") Long reviewFormId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r.id as id, r.nickname as nickname, r.createdAt as createdAt, r.updatedAt as updatedAt "
+        + "from Review r "
+        + "where r.reviewForm.id = :reviewFormId "
+        + "and r.updatedAt > :updatedAt "
+        + "order by r.updatedAt asc, r.id asc")
+    List<ReviewSummary> findSummariesByReviewFormIdUpdatedAfter(@Param("reviewFormId") Long reviewFormId,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select count(r) as count, max(r.updatedAt) as lastUpdatedAt "
+        + "from Review r "
+        + "where r.reviewForm.id = :reviewFormId")
+    CollectionSummary findCollectionSummaryByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Query("select qa.review.id as reviewId, q.value as questionValue, a.value as answerValue "
+        + "from QuestionAnswer qa "
+        + "left join qa.reviewFormQuestion q "
+        + "left join qa.answer a "
+        + "where qa.review.reviewForm.id = :reviewFormId "
+        + "order by qa.review.id asc, qa.position asc")
+    List<AnswerSummary> findAnswerSummariesByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Query("select qa.review.id as reviewId, q.value as questionValue, a.value as answerValue "
+        + "from QuestionAnswer qa "
+        + "left join qa.reviewFormQuestion q "
+        + "left join qa.answer a "
+        + "where qa.review.id in :reviewIds "
+        + "order by qa.review.id asc, qa.position asc")
+    List<AnswerSummary> findAnswerSummariesByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -0,0 +1,32 @@
+package com.reviewduck.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.reviewduck.domain.ReviewTombstone;
+
+public interface ReviewTombstoneRepository extends JpaRepository<ReviewTombstone, Long> {
+
+    @Query("select t.reviewId from ReviewTombstone t "
+        + "where t.reviewFormId = :reviewFormId and t.deletedAt > :deletedAt "
+        + "order by t.deletedAt asc")
+    List<Long> findReviewIdsDeletedAfter(@Param("reviewFormId") Long reviewFormId,
+        @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("delete from ReviewTombstone t where t.reviewFormId = :reviewFormId")
+    int deleteByReviewFormId(@Param("reviewFormId") Long reviewFormId);
+
+    @Query("select t.reviewId from ReviewTombstone t where t.deletedAt < :deletedAt")
+    List<Long> findIdsDeletedBefore(@Param("deletedAt") LocalDateTime deletedAt, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ReviewTombstone t where t.reviewId in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
@@ -1,8 +1,25 @@
 package com.reviewduck.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.reviewduck.domain.TemplateQuestion;
 
 public interface TemplateQuestionRepository extends JpaRepository<TemplateQuestion, Long> {
+
+    @Modifying
+    @Query("delete from TemplateQuestion q where q.template.id = :templateId")
+    int deleteByTemplateId(@Param("templateId") Long templateId);
+
+    @Query("select q.id from TemplateQuestion q where q.id > :afterId and q.template is null order by q.id")
+    List<Long> findOrphanIds(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TemplateQuestion q where q.id in :ids and q.template is null")
+    int deleteOrphans(@Param("ids") List<Long> ids);
 }
@@ -1,8 +1,59 @@
 package com.reviewduck.repository;
 
+import static org.hibernate.jpa.QueryHints.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.reviewduck.domain.Template;
+import com.reviewduck.dto.projection.CollectionSummary;
+import com.reviewduck.dto.projection.TemplateQuestionSummary;
+import com.reviewduck.dto.projection.TemplateSummary;
 
 public interface TemplateRepository extends JpaRepository<Template, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Template t where t.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
+
+    @Query("select t.id as id, t.templateTitle as templateTitle, t.templateDescription as templateDescription, "
+        + "t.updatedAt as updatedAt "
+        + "from Template t "
+        + "where t.id = :id")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Optional<TemplateSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("select t.id as id, t.templateTitle as templateTitle, t.templateDescription as templateDescription, "
+        + "t.updatedAt as updatedAt "
+        + "from Template t "
+        + "order by t.id asc")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<TemplateSummary> findAllSummaries();
+
+    @Query("select count(t) as count, max(t.updatedAt) as lastUpdatedAt "
+        + "from Template t")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    CollectionSummary findCollectionSummary();
+
+    @Query("select q.template.id as templateId, q.id as questionId, q.value as questionValue "
+        + "from TemplateQuestion q "
+        + "where q.template.id = :templateId "
+        + "order by q.position asc")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<TemplateQuestionSummary> findQuestionSummariesByTemplateId(@Param("templateId") Long templateId);
+
+    @Query("select q.template.id as templateId, q.id as questionId, q.value as questionValue "
+        + "from TemplateQuestion q "
+        + "where q.template is not null "
+        + "order by q.template.id asc, q.position asc")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<TemplateQuestionSummary> findAllQuestionSummaries();
 }
@@ -0,0 +1,106 @@
+package com.reviewduck.service;
+
+import java.util.function.Predicate;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.reviewduck.cache.SingleFlight;
+import com.reviewduck.dto.response.ReviewFormResponse;
+import com.reviewduck.dto.response.ReviewFormWithReviewsResponse;
+import com.reviewduck.dto.response.ReviewsFindResponse;
+
+/**
+ * 링크 공유 직후처럼 같은 회고 폼 조회가 한꺼번에 몰릴 때 조회를 하나로 합쳐 ReviewFormReadService 를 한 번만 실행한다.
+ * 기다리는 요청이 커넥션을 붙잡지 않도록 트랜잭션 밖에서 합치고, 결과는 엔티티가 아닌 응답 DTO 만 나누어 준다.
+ * 회고 폼이나 회고가 바뀌어 커밋되면 그 회고 폼의 진행 중인 조회에서 키를 떼어, 쓰기 요청이 응답한 뒤에 시작한 조회는
+ * 커밋 전에 시작한 조회의 결과를 받지 않는다.
+ */
+@Service
+@ManagedResource(objectName = "com.reviewduck:type=SingleFlight,name=reviewFormRead")
+public class CoalescingReadService {
+
+    private static final String KEY_DELIMITER = "|";
+
+    private final ReviewFormReadService reviewFormReadService;
+    private final SingleFlight<String, ReviewFormResponse> reviewFormFlights = new SingleFlight<>();
+    private final SingleFlight<String, ReviewsFindResponse> reviewsFlights = new SingleFlight<>();
+    private final SingleFlight<String, ReviewFormWithReviewsResponse> reviewFormWithReviewsFlights =
+        new SingleFlight<>();
+
+    public CoalescingReadService(ReviewFormReadService reviewFormReadService) {
+        this.reviewFormReadService = reviewFormReadService;
+    }
+
+    public ReviewFormResponse findReviewForm(String code) {
+        return reviewFormFlights.execute(code, () -> reviewFormReadService.findReviewForm(code));
+    }
+
+    public ReviewsFindResponse findReviews(String code) {
+        return reviewsFlights.execute(code, () -> reviewFormReadService.findReviews(code));
+    }
+
+    public ReviewsFindResponse findReviewPage(String code, String cursor, int limit) {
+        String key = String.join(KEY_DELIMITER, code, String.valueOf(cursor), String.valueOf(limit));
+        return reviewsFlights.execute(key, () -> reviewFormReadService.findReviewPage(code, cursor, limit));
+    }
+
+    public ReviewFormWithReviewsResponse findWithReviews(String code) {
+        return reviewFormWithReviewsFlights.execute(code, () -> reviewFormReadService.findWithReviews(code));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFormUpdated(ReviewFormUpdatedEvent event) {
+        forget(event.getCode());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFormDeleted(ReviewFormDeletedEvent event) {
+        forget(event.getCode());
+    }
+
+    // 회고 폼 응답에는 회고가 없으므로 회고가 담긴 조회만 뗀다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        Predicate<String> keys = keysOf(event.getCode());
+        reviewsFlights.forget(keys);
+        reviewFormWithReviewsFlights.forget(keys);
+    }
+
+    private void forget(String code) {
+        Predicate<String> keys = keysOf(code);
+        reviewFormFlights.forget(keys);
+        reviewsFlights.forget(keys);
+        reviewFormWithReviewsFlights.forget(keys);
+    }
+
+    private Predicate<String> keysOf(String code) {
+        String pagePrefix = code + KEY_DELIMITER;
+        return key -> key.equals(code) || key.startsWith(pagePrefix);
+    }
+
+    @ManagedAttribute(description = "DB 에서 직접 읽은 조회 수")
+    public long getLoadCount() {
+        return reviewFormFlights.getLoadCount() + reviewsFlights.getLoadCount()
+            + reviewFormWithReviewsFlights.getLoadCount();
+    }
+
+    @ManagedAttribute(description = "진행 중인 조회 결과를 나누어 받은 조회 수")
+    public long getCoalescedCount() {
+        return reviewFormFlights.getCoalescedCount() + reviewsFlights.getCoalescedCount()
+            + reviewFormWithReviewsFlights.getCoalescedCount();
+    }
+
+    @ManagedAttribute(description = "전체 조회 중 합쳐진 조회의 비율")
+    public double getCoalescingRatio() {
+        long coalesced = getCoalescedCount();
+        long total = getLoadCount() + coalesced;
+        if (total == 0) {
+            return 0;
+        }
+        return (double)coalesced / total;
+    }
+}
@@ -0,0 +1,270 @@
+package com.reviewduck.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.domain.Review;
+import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.exception.ServiceUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회고 작성 요청을 큐에 모았다가 쓰기 스레드 하나가 여러 건을 한 트랜잭션으로 저장한다.
+ * 회고가 끝날 때처럼 작성이 몰리면 커밋 한 번에 여러 회고가 함께 저장되고, 각 요청은 자기 회고가 커밋된 뒤에 응답한다.
+ * 큐가 가득 차면 기다리게 하지 않고 바로 ServiceUnavailableException 을 던져 잠시 뒤 다시 보내도록 한다.
+ * 없는 회고 폼이나 질문처럼 잘못된 요청은 큐에 넣기 전에 요청 스레드에서 거절해, 한 건 때문에 배치 전체가 롤백되지 않게 한다.
+ */
+@Service
+@ManagedResource(objectName = "com.reviewduck:type=GroupCommit,name=reviewWrite")
+@Slf4j
+public class GroupCommitReviewWriter {
+
+    private static final int QUEUE_CAPACITY = 1_000;
+    // Hibernate JDBC 배치 크기와 맞춘다.
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final long MAX_BATCH_DELAY_MILLIS = 2;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    private final ReviewService reviewService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingReview> pendingReviews = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread writer = new Thread(this::write, "review-group-commit");
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong batchedReviewCount = new AtomicLong();
+    private final AtomicLong committedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+    private final AtomicLong totalCommitNanos = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastCommitMicros;
+    private volatile boolean running = true;
+    private volatile boolean groupCommitEnabled = true;
+
+    public GroupCommitReviewWriter(ReviewService reviewService, PlatformTransactionManager transactionManager) {
+        this.reviewService = reviewService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 큐에 남은 요청은 모두 저장한 뒤에 멈춘다. 시간 안에 저장하지 못했거나 멈춘 뒤에 들어온 요청은 실패를 알린다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+
+        List<PendingReview> remaining = new ArrayList<>();
+        pendingReviews.drainTo(remaining);
+        remaining.forEach(pendingReview -> pendingReview.result.completeExceptionally(
+            new ServiceUnavailableException("회고 작성을 멈추는 중입니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS)));
+    }
+
+    public CompletableFuture<Long> submit(String code, ReviewRequest request) {
+        if (!groupCommitEnabled) {
+            return CompletableFuture.completedFuture(reviewService.save(code, request).getId());
+        }
+
+        reviewService.validate(code, request);
+        PendingReview pendingReview = new PendingReview(code, request);
+        if (!running || !pendingReviews.offer(pendingReview)) {
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("회고 작성 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+                RETRY_AFTER_SECONDS);
+        }
+        // 넣는 사이에 멈췄다면 쓰기 스레드와 stop 이 이미 큐를 비웠을 수 있으므로 직접 꺼내 거절한다.
+        // 꺼내지 못했다면 쓰기 스레드나 stop 이 가져가 결과를 알린다.
+        if (!running && pendingReviews.remove(pendingReview)) {
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("회고 작성을 멈추는 중입니다. 잠시 후 다시 시도해주세요.",
+                RETRY_AFTER_SECONDS);
+        }
+        return pendingReview.result;
+    }
+
+    private void write() {
+        List<PendingReview> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !pendingReviews.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                commitSafely(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 저장 중에 Error 가 나도 쓰기 스레드가 죽으면 이후 요청이 모두 응답을 받지 못하므로,
+    // 배치의 남은 요청에 실패를 알리고 계속 돈다.
+    private void commitSafely(List<PendingReview> batch) {
+        try {
+            commit(batch);
+        } catch (Throwable e) {
+            log.error(e.getMessage(), e);
+            batch.forEach(pendingReview -> pendingReview.result.completeExceptionally(e));
+        }
+    }
+
+    // 첫 요청이 오면 MAX_BATCH_DELAY_MILLIS 동안 또는 MAX_BATCH_SIZE 건이 찰 때까지 더 모은다.
+    private void collect(List<PendingReview> batch) throws InterruptedException {
+        PendingReview first = pendingReviews.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_BATCH_DELAY_MILLIS);
+        while (batch.size() < MAX_BATCH_SIZE) {
+            pendingReviews.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() == MAX_BATCH_SIZE || remainingNanos <= 0) {
+                return;
+            }
+            PendingReview next = pendingReviews.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingReview> batch) {
+        long startTime = System.nanoTime();
+        List<Long> reviewIds;
+        try {
+            reviewIds = transactionTemplate.execute(status -> batch.stream()
+                .map(pendingReview -> reviewService.save(pendingReview.code, pendingReview.request).getId())
+                .collect(Collectors.toUnmodifiableList()));
+        } catch (RuntimeException e) {
+            // 확인한 뒤에 회고 폼이 삭제되었거나 DB 에서 실패한 경우다.
+            // 배치 전체가 롤백되므로 한 건씩 다시 저장해 실패한 요청에만 실패를 알린다.
+            fallbackCount.incrementAndGet();
+            batch.forEach(this::commitAlone);
+            return;
+        }
+        recordCommit(batch.size(), System.nanoTime() - startTime);
+
+        for (int index = 0; index < batch.size(); index++) {
+            batch.get(index).result.complete(reviewIds.get(index));
+        }
+    }
+
+    private void commitAlone(PendingReview pendingReview) {
+        try {
+            Review review = reviewService.save(pendingReview.code, pendingReview.request);
+            committedCount.incrementAndGet();
+            pendingReview.result.complete(review.getId());
+        } catch (RuntimeException e) {
+            pendingReview.result.completeExceptionally(e);
+        }
+    }
+
+    private void recordCommit(int batchSize, long commitNanos) {
+        batchCount.incrementAndGet();
+        batchedReviewCount.addAndGet(batchSize);
+        committedCount.addAndGet(batchSize);
+        totalCommitNanos.addAndGet(commitNanos);
+        lastBatchSize = batchSize;
+        lastCommitMicros = TimeUnit.NANOSECONDS.toMicros(commitNanos);
+    }
+
+    @ManagedAttribute(description = "모아서 쓰기를 사용하는지 여부")
+    public boolean isGroupCommitEnabled() {
+        return groupCommitEnabled;
+    }
+
+    @ManagedAttribute(description = "모아서 쓰기를 켜거나 끈다. 끄면 요청 스레드에서 바로 저장한다.")
+    public void setGroupCommitEnabled(boolean groupCommitEnabled) {
+        this.groupCommitEnabled = groupCommitEnabled;
+    }
+
+    @ManagedAttribute(description = "저장을 기다리는 요청 수")
+    public int getQueueSize() {
+        return pendingReviews.size();
+    }
+
+    @ManagedAttribute(description = "커밋한 배치 수")
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    @ManagedAttribute(description = "저장한 회고 수")
+    public long getCommittedCount() {
+        return committedCount.get();
+    }
+
+    @ManagedAttribute(description = "큐가 가득 차 거절한 요청 수")
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @ManagedAttribute(description = "실패한 요청이 섞여 한 건씩 다시 저장한 배치 수")
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+
+    @ManagedAttribute(description = "마지막 배치의 회고 수")
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    @ManagedAttribute(description = "배치 하나의 평균 회고 수")
+    public double getAverageBatchSize() {
+        long batches = batchCount.get();
+        if (batches == 0) {
+            return 0;
+        }
+        return batchedReviewCount.get() / (double)batches;
+    }
+
+    @ManagedAttribute(description = "마지막 배치의 저장과 커밋에 걸린 시간(μs)")
+    public long getLastCommitMicros() {
+        return lastCommitMicros;
+    }
+
+    @ManagedAttribute(description = "배치 하나의 저장과 커밋에 걸린 평균 시간(μs)")
+    public long getAverageCommitMicros() {
+        long batches = batchCount.get();
+        if (batches == 0) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMicros(totalCommitNanos.get() / batches);
+    }
+
+    private static class PendingReview {
+
+        private final String code;
+        private final ReviewRequest request;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private PendingReview(String code, ReviewRequest request) {
+            this.code = code;
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.reviewduck.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.domain.ReviewWatermark;
+import com.reviewduck.repository.AnswerRepository;
+import com.reviewduck.repository.QuestionAnswerRepository;
+import com.reviewduck.repository.QuestionRepository;
+import com.reviewduck.repository.ReviewTombstoneRepository;
+import com.reviewduck.repository.TemplateQuestionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수정과 삭제 과정에서 어디에서도 가리키지 않게 된 답변, 질문 행을 주기적으로 지운다.
+ * 한 번에 CHUNK_SIZE 개씩 짧은 트랜잭션으로 지우고 청크 사이에 쉬어 운영 중인 요청과 락을 오래 다투지 않으며,
+ * 한 번 실행할 때 테이블마다 MAX_CHUNKS_PER_RUN 개 청크까지만 지우고 나머지는 다음 실행으로 넘긴다.
+ * 테이블마다 마지막으로 훑은 번호를 기억해 다음 청크와 다음 실행은 그 뒤부터 훑고, 끝에 닿으면 처음으로 돌아간다.
+ * 삭제 쿼리가 고아 조건을 다시 확인하므로, 고른 뒤 다시 연결된 행은 지우지 않는다.
+ * 보존 기간이 지난 회고 삭제 기록도 같은 방식으로 지운다.
+ */
+@Service
+@ManagedResource(objectName = "com.reviewduck:type=OrphanCollector,name=orphanCollector")
+@Slf4j
+public class OrphanCollector {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_PER_RUN = 20;
+    private static final long PAUSE_BETWEEN_CHUNKS_MILLIS = 100;
+    private static final long COLLECT_INTERVAL_MILLIS = 10 * 60 * 1000;
+
+    private final TransactionTemplate transactionTemplate;
+    // 답변 연결을 먼저 지워야 답변이, 답변이 지워져야 회고 폼 질문이 고아가 되므로 순서를 지킨다.
+    private final Map<String, OrphanTable> orphanTables = new LinkedHashMap<>();
+    private final AtomicLong runCount = new AtomicLong();
+    private volatile long lastRunMillis;
+
+    public OrphanCollector(PlatformTransactionManager transactionManager,
+        QuestionAnswerRepository questionAnswerRepository, AnswerRepository answerRepository,
+        QuestionRepository questionRepository, TemplateQuestionRepository templateQuestionRepository,
+        ReviewTombstoneRepository reviewTombstoneRepository) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        orphanTables.put("question_answer", new OrphanTable(
+            questionAnswerRepository::findOrphanIds, questionAnswerRepository::deleteOrphans));
+        orphanTables.put("answer", new OrphanTable(
+            answerRepository::findOrphanIds, answerRepository::deleteOrphans));
+        orphanTables.put("review_form_question", new OrphanTable(
+            questionRepository::findOrphanIds, questionRepository::deleteOrphans));
+        orphanTables.put("template_question", new OrphanTable(
+            templateQuestionRepository::findOrphanIds, templateQuestionRepository::deleteOrphans));
+        orphanTables.put("review_tombstone", new OrphanTable(
+            // 보존 기간이 지난 기록은 모두 지우므로 앞쪽을 다시 훑을 일이 없어 마지막으로 훑은 번호를 쓰지 않는다.
+            (afterId, pageable) -> reviewTombstoneRepository.findIdsDeletedBefore(
+                LocalDateTime.now().minus(ReviewWatermark.TOMBSTONE_RETENTION), pageable),
+            reviewTombstoneRepository::deleteByIds));
+    }
+
+    @Scheduled(initialDelay = COLLECT_INTERVAL_MILLIS, fixedDelay = COLLECT_INTERVAL_MILLIS)
+    @ManagedOperation(description = "고아 행을 지금 지운다")
+    public Map<String, Integer> collect() {
+        long startTime = System.nanoTime();
+        Map<String, Integer> collected = new LinkedHashMap<>();
+        for (Map.Entry<String, OrphanTable> entry : orphanTables.entrySet()) {
+            collected.put(entry.getKey(), collect(entry.getValue()));
+        }
+        lastRunMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        runCount.incrementAndGet();
+
+        log.info("고아 행을 지웠습니다. collected = {}, elapsed = {}ms", collected, lastRunMillis);
+        return collected;
+    }
+
+    private int collect(OrphanTable orphanTable) {
+        int collected = 0;
+        // 중간부터 훑기 시작했다면 끝에 닿은 뒤 처음으로 돌아가 이어서 훑는다.
+        boolean wrapped = orphanTable.isAtStart();
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer deleted = transactionTemplate.execute(status -> orphanTable.deleteChunk());
+            orphanTable.collectedCount.addAndGet(deleted);
+            collected += deleted;
+            if (orphanTable.isAtStart()) {
+                if (wrapped) {
+                    break;
+                }
+                wrapped = true;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return collected;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(PAUSE_BETWEEN_CHUNKS_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @ManagedAttribute(description = "테이블별로 지금까지 지운 고아 행 수")
+    public Map<String, Long> getCollectedCounts() {
+        Map<String, Long> collectedCounts = new LinkedHashMap<>();
+        orphanTables.forEach((table, orphanTable) -> collectedCounts.put(table, orphanTable.collectedCount.get()));
+        return collectedCounts;
+    }
+
+    @ManagedAttribute(description = "테이블별로 다음 수거를 시작할 번호")
+    public Map<String, Long> getLastScannedIds() {
+        Map<String, Long> lastScannedIds = new LinkedHashMap<>();
+        orphanTables.forEach((table, orphanTable) -> lastScannedIds.put(table, orphanTable.lastScannedId));
+        return lastScannedIds;
+    }
+
+    @ManagedAttribute(description = "고아 행 수거를 실행한 횟수")
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    @ManagedAttribute(description = "마지막 수거에 걸린 시간(ms)")
+    public long getLastRunMillis() {
+        return lastRunMillis;
+    }
+
+    private static class OrphanTable {
+
+        private static final long START = 0;
+
+        private final BiFunction<Long, Pageable, List<Long>> orphanIdFinder;
+        private final ToIntFunction<List<Long>> orphanDeleter;
+        private final AtomicLong collectedCount = new AtomicLong();
+        private volatile long lastScannedId = START;
+
+        private OrphanTable(BiFunction<Long, Pageable, List<Long>> orphanIdFinder,
+            ToIntFunction<List<Long>> orphanDeleter) {
+            this.orphanIdFinder = orphanIdFinder;
+            this.orphanDeleter = orphanDeleter;
+        }
+
+        private int deleteChunk() {
+            List<Long> orphanIds = orphanIdFinder.apply(lastScannedId, PageRequest.of(0, CHUNK_SIZE));
+            lastScannedId = orphanIds.size() < CHUNK_SIZE ? START : Collections.max(orphanIds);
+            if (orphanIds.isEmpty()) {
+                return 0;
+            }
+            return orphanDeleter.applyAsInt(orphanIds);
+        }
+
+        private boolean isAtStart() {
+            return lastScannedId == START;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.reviewduck.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.reviewduck.dto.request.QuestionUpdateRequest;
+import com.reviewduck.exception.NotFoundException;
+
+/**
+ * 회고 폼과 템플릿의 질문 수정, 회고 작성에서 요청한 질문 번호를 저장된 질문과 맞춰 본다.
+ */
+final class Questions {
+
+    private Questions() {
+    }
+
+    static <T> Map<Long, T> groupById(List<T> questions, Function<T, Long> idMapper) {
+        return questions.stream()
+            .collect(Collectors.toMap(idMapper, Function.identity()));
+    }
+
+    static void validateIds(Map<Long, ?> savedQuestions, Collection<Long> questionIds) {
+        List<Long> invalidQuestionIds = questionIds.stream()
+            .filter(questionId -> !savedQuestions.containsKey(questionId))
+            .distinct()
+            .collect(Collectors.toUnmodifiableList());
+
+        if (!invalidQuestionIds.isEmpty()) {
+            throw new NotFoundException("존재하지 않는 질문입니다. 질문 번호: " + invalidQuestionIds);
+        }
+    }
+
+    // 번호가 없는 요청은 새 질문으로 만들고, 번호가 있는 요청은 저장된 질문의 내용을 바꾼다.
+    static <T> List<T> createOrUpdate(Map<Long, T> savedQuestions, List<QuestionUpdateRequest> requests,
+        Function<String, T> creator, BiConsumer<T, String> updater) {
+        validateIds(savedQuestions, requests.stream()
+            .map(QuestionUpdateRequest::getQuestionId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList()));
+
+        return requests.stream()
+            .map(request -> createOrUpdate(savedQuestions, request, creator, updater))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static <T> T createOrUpdate(Map<Long, T> savedQuestions, QuestionUpdateRequest request,
+        Function<String, T> creator, BiConsumer<T, String> updater) {
+        if (Objects.isNull(request.getQuestionId())) {
+            return creator.apply(request.getQuestionValue());
+        }
+
+        T question = savedQuestions.get(request.getQuestionId());
+        updater.accept(question, request.getQuestionValue());
+        return question;
+    }
+}
@@ -0,0 +1,34 @@
+package com.reviewduck.service;
+
+import com.reviewduck.domain.Review;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ReviewChangedEvent {
+
+    private final String code;
+    private final Type type;
+    private final Long reviewId;
+    // 삭제된 회고는 엔티티가 없으므로 null 이다.
+    private final Review review;
+
+    public static ReviewChangedEvent created(String code, Review review) {
+        return new ReviewChangedEvent(code, Type.CREATED, review.getId(), review);
+    }
+
+    public static ReviewChangedEvent updated(String code, Review review) {
+        return new ReviewChangedEvent(code, Type.UPDATED, review.getId(), review);
+    }
+
+    public static ReviewChangedEvent deleted(String code, Long reviewId) {
+        return new ReviewChangedEvent(code, Type.DELETED, reviewId, null);
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,103 @@
+package com.reviewduck.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reviewduck.domain.ResourceVersion;
+import com.reviewduck.domain.ReviewWatermark;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.CollectionSummary;
+import com.reviewduck.dto.projection.QuestionSummary;
+import com.reviewduck.dto.projection.ReviewFormSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
+import com.reviewduck.dto.response.ReviewFormResponse;
+import com.reviewduck.dto.response.ReviewFormWithReviewsResponse;
+import com.reviewduck.dto.response.ReviewsDeltaResponse;
+import com.reviewduck.dto.response.ReviewsFindResponse;
+
+@Service
+@Transactional(readOnly = true)
+public class ReviewFormReadService {
+
+    private final ReviewFormService reviewFormService;
+    private final ReviewService reviewService;
+
+    public ReviewFormReadService(ReviewFormService reviewFormService, ReviewService reviewService) {
+        this.reviewFormService = reviewFormService;
+        this.reviewService = reviewService;
+    }
+
+    public ResourceVersion findReviewsVersion(String code) {
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(code);
+        CollectionSummary reviews = reviewService.findCollectionSummaryByReviewFormId(reviewForm.getId());
+
+        return ResourceVersion.of(reviewForm.getUpdatedAt())
+            .and(ResourceVersion.of(reviews.getCount(), reviews.getLastUpdatedAt()));
+    }
+
+    public ReviewFormResponse findReviewForm(String code) {
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(code);
+        List<QuestionSummary> questions = reviewFormService.findQuestionSummaries(reviewForm.getId());
+
+        return ReviewFormResponse.of(reviewForm, questions);
+    }
+
+    public int findCurrentVersion(String code) {
+        return reviewFormService.findSummaryByCode(code).getVersion();
+    }
+
+    public ReviewFormResponse findReviewFormSnapshot(String code, int version) {
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(code);
+        return ReviewFormResponse.from(reviewFormService.findSnapshot(reviewForm.getId(), version));
+    }
+
+    public ReviewsFindResponse findReviews(String code) {
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(code);
+        List<ReviewSummary> reviews = reviewService.findSummariesByReviewFormId(reviewForm.getId());
+        Map<Long, List<AnswerSummary>> answers = reviewService.findAnswerSummariesByReviewFormId(reviewForm.getId());
+
+        return ReviewsFindResponse.of(reviewForm, reviews, answers);
+    }
+
+    public ReviewsFindResponse findReviewPage(String code, String cursor, int limit) {
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(code);
+        Slice<ReviewSummary> reviews = reviewService.findSummaryPageByReviewFormId(reviewForm.getId(), cursor, limit);
+        Map<Long, List<AnswerSummary>> answers = reviewService.findAnswerSummaries(reviews.getContent());
+
+        return ReviewsFindResponse.of(reviewForm, reviews, answers);
+    }
+
+    // 다음 기준점이 조회보다 앞서도록 현재 시각을 먼저 정한다. 폼이 클수록 커지는 전체 조회 대신 인덱스로 변경분만 읽는다.
+    public ReviewsDeltaResponse findReviewDelta(String code, long since) {
+        LocalDateTime now = LocalDateTime.now();
+        ReviewWatermark watermark = ReviewWatermark.from(since);
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(code);
+
+        if (watermark.isExpired(now)) {
+            List<ReviewSummary> reviews = reviewService.findSummariesByReviewFormId(reviewForm.getId());
+            Map<Long, List<AnswerSummary>> answers =
+                reviewService.findAnswerSummariesByReviewFormId(reviewForm.getId());
+            return ReviewsDeltaResponse.reset(reviews, answers, watermark.next(now));
+        }
+
+        List<ReviewSummary> reviews = reviewService.findSummariesUpdatedAfter(reviewForm.getId(), watermark.getTime());
+        Map<Long, List<AnswerSummary>> answers = reviewService.findAnswerSummaries(reviews);
+        List<Long> deletedReviewIds = reviewService.findIdsDeletedAfter(reviewForm.getId(), watermark.getTime());
+
+        return ReviewsDeltaResponse.of(reviews, answers, deletedReviewIds, watermark.next(now));
+    }
+
+    public ReviewFormWithReviewsResponse findWithReviews(String code) {
+        ReviewFormSummary reviewForm = reviewFormService.findSummaryByCode(code);
+        List<QuestionSummary> questions = reviewFormService.findQuestionSummaries(reviewForm.getId());
+        List<ReviewSummary> reviews = reviewService.findSummariesByReviewFormId(reviewForm.getId());
+        Map<Long, List<AnswerSummary>> answers = reviewService.findAnswerSummariesByReviewFormId(reviewForm.getId());
+
+        return ReviewFormWithReviewsResponse.of(reviewForm, questions, reviews, answers);
+    }
+}
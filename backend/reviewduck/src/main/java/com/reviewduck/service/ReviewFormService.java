@@ -1,37 +1,65 @@
 package com.reviewduck.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reviewduck.cache.ReviewFormCodeFilter;
 import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormCode;
 import com.reviewduck.domain.ReviewFormQuestion;
+import com.reviewduck.domain.ReviewFormSnapshot;
 import com.reviewduck.domain.Template;
 import com.reviewduck.domain.TemplateQuestion;
+import com.reviewduck.dto.projection.QuestionSummary;
+import com.reviewduck.dto.projection.ReviewFormSummary;
 import com.reviewduck.dto.request.QuestionRequest;
 import com.reviewduck.dto.request.ReviewFormCreateFromTemplateRequest;
 import com.reviewduck.dto.request.ReviewFormCreateRequest;
 import com.reviewduck.dto.request.ReviewFormUpdateRequest;
 import com.reviewduck.exception.NotFoundException;
+import com.reviewduck.repository.QuestionAnswerRepository;
 import com.reviewduck.repository.QuestionRepository;
 import com.reviewduck.repository.ReviewFormRepository;
+import com.reviewduck.repository.ReviewFormSnapshotRepository;
+import com.reviewduck.repository.ReviewRepository;
+import com.reviewduck.repository.ReviewTombstoneRepository;
 
 @Service
 @Transactional
 public class ReviewFormService {
 
     private final ReviewFormRepository reviewFormRepository;
+    private final ReviewFormCodeFilter reviewFormCodeFilter;
+    private final ReviewFormSnapshotRepository reviewFormSnapshotRepository;
     private final QuestionRepository questionRepository;
+    private final ReviewRepository reviewRepository;
+    private final QuestionAnswerRepository questionAnswerRepository;
+    private final ReviewTombstoneRepository reviewTombstoneRepository;
     private final TemplateService templateService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReviewFormService(ReviewFormRepository reviewFormRepository,
-        QuestionRepository questionRepository, TemplateService templateService) {
+    public ReviewFormService(ReviewFormRepository reviewFormRepository, ReviewFormCodeFilter reviewFormCodeFilter,
+        ReviewFormSnapshotRepository reviewFormSnapshotRepository, QuestionRepository questionRepository,
+        ReviewRepository reviewRepository, QuestionAnswerRepository questionAnswerRepository,
+        ReviewTombstoneRepository reviewTombstoneRepository,
+        TemplateService templateService, ApplicationEventPublisher eventPublisher) {
         this.reviewFormRepository = reviewFormRepository;
+        this.reviewFormCodeFilter = reviewFormCodeFilter;
+        this.reviewFormSnapshotRepository = reviewFormSnapshotRepository;
         this.questionRepository = questionRepository;
+        this.reviewRepository = reviewRepository;
+        this.questionAnswerRepository = questionAnswerRepository;
+        this.reviewTombstoneRepository = reviewTombstoneRepository;
         this.templateService = templateService;
+        this.eventPublisher = eventPublisher;
     }
 
     public ReviewForm save(ReviewFormCreateRequest createRequest) {
@@ -40,38 +68,90 @@ public class ReviewFormService {
             .collect(Collectors.toUnmodifiableList());
 
         ReviewForm reviewForm = new ReviewForm(createRequest.getReviewTitle(), questionValues);
-        return reviewFormRepository.save(reviewForm);
+        return saveWithSnapshot(reviewForm);
+    }
+
+    private ReviewForm saveWithSnapshot(ReviewForm reviewForm) {
+        ReviewForm savedReviewForm = reviewFormRepository.save(reviewForm);
+        reviewFormCodeFilter.add(savedReviewForm.getCode());
+        reviewFormSnapshotRepository.save(ReviewFormSnapshot.from(savedReviewForm));
+        return savedReviewForm;
     }
 
     @Transactional(readOnly = true)
     public ReviewForm findByCode(String code) {
-        return reviewFormRepository.findByCode(code)
+        return findWithCodeFilter(code, reviewFormRepository::findByCode);
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewFormSummary findSummaryByCode(String code) {
+        return findWithCodeFilter(code, reviewFormRepository::findSummaryByCode);
+    }
+
+    // 새 방식 코드는 아직 발급되지 않은 번호면 DB 조회 없이 없다고 판단하고, 이전 방식 코드는 필터로 판단한다.
+    // 필터에 없는 새 방식 코드는 다른 서버에서 저장되었을 수 있으므로 DB 에서 확인하고, 찾으면 필터에 넣는다.
+    private <T> T findWithCodeFilter(String code, Function<String, Optional<T>> finder) {
+        boolean known = reviewFormCodeFilter.mightExist(code);
+        boolean absent = ReviewFormCode.decode(code)
+            .map(reviewFormCodeFilter::isNeverIssued)
+            .orElse(!known);
+        if (absent) {
+            throw new NotFoundException("존재하지 않는 회고 폼입니다.");
+        }
+
+        T found = finder.apply(code)
             .orElseThrow(() -> new NotFoundException("존재하지 않는 회고 폼입니다."));
+        if (!known) {
+            reviewFormCodeFilter.add(code);
+        }
+        return found;
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewFormSnapshot findSnapshot(Long reviewFormId, int version) {
+        return reviewFormSnapshotRepository.findByReviewFormIdAndVersion(reviewFormId, version)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회고 폼 버전입니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionSummary> findQuestionSummaries(Long reviewFormId) {
+        return reviewFormRepository.findQuestionSummariesByReviewFormId(reviewFormId);
     }
 
     public ReviewForm update(String code, ReviewFormUpdateRequest updateRequest) {
         ReviewForm reviewForm = findByCode(code);
 
-        List<ReviewFormQuestion> reviewFormQuestions = updateRequest.getQuestions().stream()
-            .map(request -> saveOrUpdateQuestion(request.getQuestionId(), request.getQuestionValue()))
-            .collect(Collectors.toUnmodifiableList());
+        Map<Long, ReviewFormQuestion> savedQuestions = Questions.groupById(reviewForm.getReviewFormQuestions(),
+            ReviewFormQuestion::getId);
+        List<ReviewFormQuestion> reviewFormQuestions = Questions.createOrUpdate(savedQuestions,
+            updateRequest.getQuestions(), ReviewFormQuestion::new, ReviewFormQuestion::updateValue);
+
+        questionRepository.saveAll(reviewFormQuestions.stream()
+            .filter(reviewFormQuestion -> Objects.isNull(reviewFormQuestion.getId()))
+            .collect(Collectors.toUnmodifiableList()));
 
         reviewForm.update(updateRequest.getReviewTitle(), reviewFormQuestions);
+        reviewFormSnapshotRepository.save(ReviewFormSnapshot.from(reviewForm));
+        eventPublisher.publishEvent(new ReviewFormUpdatedEvent(code));
 
         return reviewForm;
     }
 
-    private ReviewFormQuestion saveOrUpdateQuestion(Long questionId, String questionValue) {
-        if (Objects.isNull(questionId)) {
-            return questionRepository.save(new ReviewFormQuestion(questionValue));
-        }
-
-        ReviewFormQuestion reviewFormQuestion = questionRepository.findById(questionId)
-            .orElseThrow(() -> new NotFoundException("존재하지 않는 질문입니다."));
-
-        reviewFormQuestion.updateValue(questionValue);
-
-        return reviewFormQuestion;
+    // 회고 폼과 회고, 답변 연결, 질문, 스냅샷을 외래 키 순서대로 테이블마다 한 번씩 지운다.
+    // 답변 연결이 답변을 가리키므로 답변은 회고 폼 번호로 한 번에 지울 수 없다. 답변 연결을 지우면 고아가 된 답변은
+    // OrphanCollector 가 나누어 지우므로, 회고 폼의 답변 수와 무관하게 같은 수의 쿼리로 지운다.
+    // 없는 회고 폼은 번호를 찾는 첫 조회에서 실패하므로 삭제한 행 수는 확인하지 않는다.
+    public void deleteByCode(String code) {
+        Long id = findSummaryByCode(code).getId();
+
+        questionAnswerRepository.deleteByReviewFormId(id);
+        reviewRepository.deleteByReviewFormId(id);
+        reviewTombstoneRepository.deleteByReviewFormId(id);
+        questionRepository.deleteByReviewFormId(id);
+        reviewFormSnapshotRepository.deleteQuestionsByReviewFormId(id);
+        reviewFormSnapshotRepository.deleteByReviewFormId(id);
+        reviewFormRepository.deleteInBulkById(id);
+        eventPublisher.publishEvent(new ReviewFormDeletedEvent(code));
     }
 
     public ReviewForm saveFromTemplate(Long templateId, ReviewFormCreateFromTemplateRequest request) {
@@ -82,7 +162,7 @@ public class ReviewFormService {
             .collect(Collectors.toUnmodifiableList());
 
         ReviewForm reviewForm = new ReviewForm(request.getReviewFormTitle(), questionValues);
-        return reviewFormRepository.save(reviewForm);
+        return saveWithSnapshot(reviewForm);
 
     }
 }
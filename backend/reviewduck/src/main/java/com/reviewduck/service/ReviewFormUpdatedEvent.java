@@ -0,0 +1,11 @@
+package com.reviewduck.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ReviewFormUpdatedEvent {
+
+    private final String code;
+}
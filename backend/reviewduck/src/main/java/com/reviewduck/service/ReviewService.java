@@ -1,51 +1,169 @@
 package com.reviewduck.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.reviewduck.domain.Answer;
 import com.reviewduck.domain.QuestionAnswer;
 import com.reviewduck.domain.Review;
+import com.reviewduck.domain.ReviewCursor;
 import com.reviewduck.domain.ReviewForm;
 import com.reviewduck.domain.ReviewFormQuestion;
+import com.reviewduck.domain.ReviewTombstone;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.CollectionSummary;
+import com.reviewduck.dto.projection.ReviewFormCodeSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
 import com.reviewduck.dto.request.AnswerRequest;
+import com.reviewduck.dto.request.ReviewPatchRequest;
 import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.response.ReviewCreateResultResponse;
+import com.reviewduck.exception.CustomException;
 import com.reviewduck.exception.NotFoundException;
-import com.reviewduck.repository.QuestionRepository;
+import com.reviewduck.exception.ReviewException;
+import com.reviewduck.repository.AnswerRepository;
+import com.reviewduck.repository.QuestionAnswerRepository;
 import com.reviewduck.repository.ReviewRepository;
+import com.reviewduck.repository.ReviewTombstoneRepository;
 
 @Service
 @Transactional
 public class ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 500;
+
     private final ReviewFormService reviewFormService;
     private final ReviewRepository reviewRepository;
-    private final QuestionRepository questionRepository;
+    private final QuestionAnswerRepository questionAnswerRepository;
+    private final AnswerRepository answerRepository;
+    private final ReviewTombstoneRepository reviewTombstoneRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReviewService(ReviewFormService reviewFormService,
-        ReviewRepository reviewRepository, QuestionRepository questionRepository) {
+    public ReviewService(ReviewFormService reviewFormService, ReviewRepository reviewRepository,
+        QuestionAnswerRepository questionAnswerRepository, AnswerRepository answerRepository,
+        ReviewTombstoneRepository reviewTombstoneRepository, EntityManager entityManager, Validator validator,
+        ApplicationEventPublisher eventPublisher) {
         this.reviewFormService = reviewFormService;
         this.reviewRepository = reviewRepository;
-        this.questionRepository = questionRepository;
+        this.questionAnswerRepository = questionAnswerRepository;
+        this.answerRepository = answerRepository;
+        this.reviewTombstoneRepository = reviewTombstoneRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
     public Review save(String code, ReviewRequest request) {
         ReviewForm reviewForm = reviewFormService.findByCode(code);
 
-        List<QuestionAnswer> questionAnswers = convertToQuestionAnswers(request.getAnswers());
+        List<QuestionAnswer> questionAnswers = convertToQuestionAnswers(reviewForm, request.getAnswers());
+
+        Review review = reviewRepository.save(Review.of(request.getNickname(), reviewForm, questionAnswers));
+        eventPublisher.publishEvent(ReviewChangedEvent.created(code, review));
+        return review;
+    }
+
+    // 저장하지 않고 회고 폼과 질문 번호, 닉네임만 확인한다.
+    @Transactional(readOnly = true)
+    public void validate(String code, ReviewRequest request) {
+        ReviewForm reviewForm = reviewFormService.findByCode(code);
+        Review.of(request.getNickname(), reviewForm, convertToQuestionAnswers(reviewForm, request.getAnswers()));
+    }
+
+    // 회고 폼과 질문은 한 번만 읽고, 실패한 요청은 결과에만 남긴 채 나머지를 한 트랜잭션에서 함께 저장한다.
+    public List<ReviewCreateResultResponse> saveAll(String code, List<ReviewRequest> requests) {
+        validateBulkSize(requests);
+        ReviewForm reviewForm = reviewFormService.findByCode(code);
+        Map<Long, ReviewFormQuestion> reviewFormQuestions = groupQuestionsById(reviewForm);
+
+        Map<Integer, Review> reviews = new LinkedHashMap<>();
+        Map<Integer, ReviewCreateResultResponse> failures = new HashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                reviews.put(index, createReview(reviewForm, reviewFormQuestions, requests.get(index)));
+            } catch (NotFoundException e) {
+                failures.put(index, ReviewCreateResultResponse.failed(index, HttpStatus.NOT_FOUND, e.getMessage()));
+            } catch (CustomException e) {
+                failures.put(index, ReviewCreateResultResponse.failed(index, HttpStatus.BAD_REQUEST, e.getMessage()));
+            }
+        }
+        reviewRepository.saveAll(reviews.values());
+        reviews.values().forEach(review -> eventPublisher.publishEvent(ReviewChangedEvent.created(code, review)));
+
+        return IntStream.range(0, requests.size())
+            .mapToObj(index -> reviews.containsKey(index)
+                ? ReviewCreateResultResponse.created(index, reviews.get(index).getId())
+                : failures.get(index))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private void validateBulkSize(List<ReviewRequest> requests) {
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new ReviewException("한 번에 작성할 수 있는 회고는 " + MAX_BULK_SIZE + "개 이하입니다.");
+        }
+    }
+
+    // 컨트롤러의 @Valid 는 목록의 요소를 검증하지 않으므로 요청마다 직접 검증한다.
+    private Review createReview(ReviewForm reviewForm, Map<Long, ReviewFormQuestion> reviewFormQuestions,
+        ReviewRequest request) {
+        if (Objects.isNull(request)) {
+            throw new ReviewException("회고 작성 요청이 비어있을 수 없습니다.");
+        }
+        Set<ConstraintViolation<ReviewRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ReviewException(violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" ")));
+        }
+
+        List<QuestionAnswer> questionAnswers = convertToQuestionAnswers(reviewFormQuestions, request.getAnswers());
+        return Review.of(request.getNickname(), reviewForm, questionAnswers);
+    }
 
-        Review review = Review.of(request.getNickname(), reviewForm, questionAnswers);
-        return reviewRepository.save(review);
+    private List<QuestionAnswer> convertToQuestionAnswers(ReviewForm reviewForm, List<AnswerRequest> answerRequests) {
+        return convertToQuestionAnswers(groupQuestionsById(reviewForm), answerRequests);
     }
 
-    private List<QuestionAnswer> convertToQuestionAnswers(List<AnswerRequest> answerRequests) {
+    private Map<Long, ReviewFormQuestion> groupQuestionsById(ReviewForm reviewForm) {
+        return Questions.groupById(reviewForm.getReviewFormQuestions(), ReviewFormQuestion::getId);
+    }
+
+    private List<QuestionAnswer> convertToQuestionAnswers(Map<Long, ReviewFormQuestion> reviewFormQuestions,
+        List<AnswerRequest> answerRequests) {
+        Questions.validateIds(reviewFormQuestions, answerRequests.stream()
+            .map(AnswerRequest::getQuestionId)
+            .collect(Collectors.toUnmodifiableList()));
+
         List<QuestionAnswer> questionAnswers = new ArrayList<>();
         for (AnswerRequest answerRequest : answerRequests) {
-            ReviewFormQuestion reviewFormQuestion = questionRepository.findById(answerRequest.getQuestionId())
-                .orElseThrow(() -> new NotFoundException("존재하지 않는 질문입니다."));
+            ReviewFormQuestion reviewFormQuestion = reviewFormQuestions.get(answerRequest.getQuestionId());
             questionAnswers.add(new QuestionAnswer(reviewFormQuestion, new Answer(answerRequest.getAnswerValue())));
         }
 
@@ -53,23 +171,125 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public List<Review> findAllByCode(String code) {
-        ReviewForm reviewForm = reviewFormService.findByCode(code);
-        return reviewRepository.findByReviewForm(reviewForm);
+    public List<ReviewSummary> findSummariesByReviewFormId(Long reviewFormId) {
+        return reviewRepository.findSummariesByReviewFormId(reviewFormId);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ReviewSummary> findSummaryPageByReviewFormId(Long reviewFormId, String cursor, int limit) {
+        validatePageSize(limit);
+        PageRequest pageRequest = PageRequest.of(0, limit);
+
+        if (Objects.isNull(cursor)) {
+            return reviewRepository.findSummariesByReviewFormId(reviewFormId, pageRequest);
+        }
+
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor);
+        return reviewRepository.findSummariesByReviewFormIdAfter(reviewFormId, reviewCursor.getCreatedAt(),
+            reviewCursor.getId(), pageRequest);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReviewSummary> findSummariesUpdatedAfter(Long reviewFormId, LocalDateTime updatedAt) {
+        return reviewRepository.findSummariesByReviewFormIdUpdatedAfter(reviewFormId, updatedAt);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findIdsDeletedAfter(Long reviewFormId, LocalDateTime deletedAt) {
+        return reviewTombstoneRepository.findReviewIdsDeletedAfter(reviewFormId, deletedAt);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionSummary findCollectionSummaryByReviewFormId(Long reviewFormId) {
+        return reviewRepository.findCollectionSummaryByReviewFormId(reviewFormId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<AnswerSummary>> findAnswerSummariesByReviewFormId(Long reviewFormId) {
+        return groupByReview(reviewRepository.findAnswerSummariesByReviewFormId(reviewFormId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<AnswerSummary>> findAnswerSummaries(List<ReviewSummary> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> reviewIds = reviews.stream()
+            .map(ReviewSummary::getId)
+            .collect(Collectors.toUnmodifiableList());
+        return groupByReview(reviewRepository.findAnswerSummariesByReviewIds(reviewIds));
+    }
+
+    private Map<Long, List<AnswerSummary>> groupByReview(List<AnswerSummary> answers) {
+        return answers.stream()
+            .collect(Collectors.groupingBy(AnswerSummary::getReviewId));
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllByReviewFormId(Long reviewFormId, Consumer<Review> consumer) {
+        try (Stream<Review> reviews = reviewRepository.streamByReviewFormId(reviewFormId)) {
+            Iterator<Review> iterator = reviews.iterator();
+            List<Review> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    consumeAndDetach(chunk, consumer);
+                }
+            }
+            consumeAndDetach(chunk, consumer);
+        }
+    }
+
+    private void consumeAndDetach(List<Review> chunk, Consumer<Review> consumer) {
+        chunk.forEach(consumer);
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ReviewException("회고 목록은 한 번에 1개 이상 100개 이하로 조회할 수 있습니다.");
+        }
     }
 
     public Review update(Long id, ReviewRequest request) {
-        Review review = reviewRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
+        Review review = findById(id);
 
-        review.update(convertToQuestionAnswers(request.getAnswers()));
+        review.update(convertToQuestionAnswers(review.getReviewForm(), request.getAnswers()));
+        eventPublisher.publishEvent(ReviewChangedEvent.updated(review.getReviewForm().getCode(), review));
         return review;
     }
 
+    public Review patch(Long id, ReviewPatchRequest request) {
+        Review review = findById(id);
+
+        review.patch(convertToQuestionAnswers(review.getReviewForm(), request.getAnswers()));
+        eventPublisher.publishEvent(ReviewChangedEvent.updated(review.getReviewForm().getCode(), review));
+        return review;
+    }
+
+    private Review findById(Long id) {
+        return reviewRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
+    }
+
+    // 답변 연결이 답변을 가리키므로 답변 번호를 먼저 읽어 두고, 외래 키 순서대로 한 번씩 지운다.
+    // 삭제 기록과 삭제 이벤트에 회고 폼이 필요하므로 먼저 읽으며, 없는 회고는 이 조회에서 실패한다.
     public void delete(Long id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new NotFoundException("존재하지 않는 회고입니다.");
+        ReviewFormCodeSummary reviewForm = reviewRepository.findReviewFormCodeById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
+        List<Long> answerIds = questionAnswerRepository.findAnswerIdsByReviewId(id);
+        questionAnswerRepository.deleteByReviewId(id);
+        answerRepository.deleteAllByIdInBatch(answerIds);
+
+        // 동시에 들어온 다른 삭제 요청이 먼저 지웠다면 그 요청이 삭제 기록과 이벤트를 남긴다.
+        if (reviewRepository.deleteInBulkById(id) == 0) {
+            return;
         }
-        reviewRepository.deleteById(id);
+        // 다음 삭제의 벌크 쿼리가 영속성 컨텍스트를 비우면 쓰지 않은 삭제 기록도 사라지므로 바로 쓴다.
+        reviewTombstoneRepository.saveAndFlush(new ReviewTombstone(id, reviewForm.getId()));
+        eventPublisher.publishEvent(ReviewChangedEvent.deleted(reviewForm.getCode(), id));
     }
 }
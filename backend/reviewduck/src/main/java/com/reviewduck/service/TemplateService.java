@@ -1,14 +1,19 @@
 package com.reviewduck.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reviewduck.domain.ResourceVersion;
 import com.reviewduck.domain.Template;
 import com.reviewduck.domain.TemplateQuestion;
+import com.reviewduck.dto.projection.CollectionSummary;
+import com.reviewduck.dto.projection.TemplateQuestionSummary;
+import com.reviewduck.dto.projection.TemplateSummary;
 import com.reviewduck.dto.request.QuestionRequest;
 import com.reviewduck.dto.request.TemplateCreateRequest;
 import com.reviewduck.dto.request.TemplateUpdateRequest;
@@ -49,34 +54,62 @@ public class TemplateService {
         return templateRepository.findAll();
     }
 
-    public void deleteById(Long id) {
-        Template template = findById(id);
-        templateRepository.delete(template);
+    @Transactional(readOnly = true)
+    public TemplateSummary findSummaryById(Long id) {
+        return templateRepository.findSummaryById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 템플릿입니다."));
     }
 
-    public Template update(Long id, TemplateUpdateRequest templateUpdateRequest) {
-        Template template = findById(id);
+    @Transactional(readOnly = true)
+    public List<TemplateQuestionSummary> findQuestionSummaries(Long id) {
+        return templateRepository.findQuestionSummariesByTemplateId(id);
+    }
 
-        List<TemplateQuestion> questions = templateUpdateRequest.getQuestions().stream()
-            .map(request -> saveOrUpdateQuestion(request.getQuestionId(), request.getQuestionValue()))
-            .collect(Collectors.toUnmodifiableList());
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionById(Long id) {
+        return ResourceVersion.of(findSummaryById(id).getUpdatedAt());
+    }
 
-        template.update(templateUpdateRequest.getTemplateTitle(), templateUpdateRequest.getTemplateDescription(),
-            questions);
+    @Transactional(readOnly = true)
+    public ResourceVersion findAllVersion() {
+        CollectionSummary templates = templateRepository.findCollectionSummary();
+        return ResourceVersion.of(templates.getCount(), templates.getLastUpdatedAt());
+    }
 
-        return template;
+    @Transactional(readOnly = true)
+    public List<TemplateSummary> findAllSummaries() {
+        return templateRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, List<TemplateQuestionSummary>> findAllQuestionSummaries() {
+        return templateRepository.findAllQuestionSummaries().stream()
+            .collect(Collectors.groupingBy(TemplateQuestionSummary::getTemplateId));
     }
 
-    private TemplateQuestion saveOrUpdateQuestion(Long questionId, String questionValue) {
-        if (Objects.isNull(questionId)) {
-            return questionRepository.save(new TemplateQuestion(questionValue));
+    public void deleteById(Long id) {
+        questionRepository.deleteByTemplateId(id);
+
+        if (templateRepository.deleteInBulkById(id) == 0) {
+            throw new NotFoundException("존재하지 않는 템플릿입니다.");
         }
+    }
 
-        TemplateQuestion question = questionRepository.findById(questionId)
-            .orElseThrow(() -> new NotFoundException("존재하지 않는 질문입니다."));
+    public Template update(Long id, TemplateUpdateRequest templateUpdateRequest) {
+        Template template = findById(id);
 
-        question.updateValue(questionValue);
+        Map<Long, TemplateQuestion> savedQuestions = Questions.groupById(template.getQuestions(),
+            TemplateQuestion::getId);
+        List<TemplateQuestion> questions = Questions.createOrUpdate(savedQuestions,
+            templateUpdateRequest.getQuestions(), TemplateQuestion::new, TemplateQuestion::updateValue);
 
-        return question;
+        questionRepository.saveAll(questions.stream()
+            .filter(question -> Objects.isNull(question.getId()))
+            .collect(Collectors.toUnmodifiableList()));
+
+        template.update(templateUpdateRequest.getTemplateTitle(), templateUpdateRequest.getTemplateDescription(),
+            questions);
+
+        return template;
     }
 }
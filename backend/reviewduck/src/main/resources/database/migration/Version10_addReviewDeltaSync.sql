@@ -0,0 +1,16 @@
+create index review_form_updated_at_index
+    on review (review_form_id, updated_at);
+
+create table review_tombstone
+(
+    review_id      bigint      not null,
+    review_form_id bigint      not null,
+    deleted_at     DATETIME(6) not null,
+    primary key (review_id)
+);
+
+create index review_tombstone_review_form_id_deleted_at_index
+    on review_tombstone (review_form_id, deleted_at);
+
+create index review_tombstone_deleted_at_index
+    on review_tombstone (deleted_at);
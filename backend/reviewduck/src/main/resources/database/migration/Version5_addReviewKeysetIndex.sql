@@ -0,0 +1,2 @@
+create index review_form_created_at_id_index
+    on review (review_form_id, created_at, id);
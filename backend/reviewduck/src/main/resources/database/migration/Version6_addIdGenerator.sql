@@ -0,0 +1,28 @@
+create table id_generator
+(
+    sequence_name varchar(255) not null,
+    next_val      bigint       not null,
+    primary key (sequence_name)
+);
+
+-- pooled-lo 는 저장된 값을 첫 번호로 쓰므로, 기존 최댓값보다 하나 큰 값에서 시작해야 한다.
+insert into id_generator (sequence_name, next_val)
+select 'review_form', coalesce(max(id), 0) + 1 from review_form;
+
+insert into id_generator (sequence_name, next_val)
+select 'review_form_question', coalesce(max(id), 0) + 1 from review_form_question;
+
+insert into id_generator (sequence_name, next_val)
+select 'review', coalesce(max(id), 0) + 1 from review;
+
+insert into id_generator (sequence_name, next_val)
+select 'question_answer', coalesce(max(id), 0) + 1 from question_answer;
+
+insert into id_generator (sequence_name, next_val)
+select 'answer', coalesce(max(id), 0) + 1 from answer;
+
+insert into id_generator (sequence_name, next_val)
+select 'template', coalesce(max(id), 0) + 1 from template;
+
+insert into id_generator (sequence_name, next_val)
+select 'template_question', coalesce(max(id), 0) + 1 from template_question;
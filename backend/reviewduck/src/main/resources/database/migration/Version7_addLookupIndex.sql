@@ -0,0 +1,5 @@
+create unique index review_form_code_unique_index
+    on review_form (code);
+
+create index question_answer_review_id_position_index
+    on question_answer (review_id, position);
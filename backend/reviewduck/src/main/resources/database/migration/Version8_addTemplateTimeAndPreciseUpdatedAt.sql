@@ -0,0 +1,11 @@
+alter table template
+    add column created_at DATETIME;
+
+alter table template
+    add column updated_at DATETIME(6);
+
+alter table review_form
+    modify column updated_at DATETIME(6);
+
+alter table review
+    modify column updated_at DATETIME(6);
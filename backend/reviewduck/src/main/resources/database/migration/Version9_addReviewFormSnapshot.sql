@@ -0,0 +1,40 @@
+alter table review_form
+    add column version integer not null default 1;
+
+create table review_form_snapshot
+(
+    id             bigint       not null,
+    review_form_id bigint       not null,
+    version        integer      not null,
+    review_title   varchar(255) not null,
+    updated_at     DATETIME(6),
+    primary key (id),
+    foreign key (review_form_id) references review_form (id)
+);
+
+create unique index review_form_snapshot_review_form_id_version_unique_index
+    on review_form_snapshot (review_form_id, version);
+
+create table review_form_snapshot_question
+(
+    review_form_snapshot_id bigint       not null,
+    position                integer      not null,
+    question_id             bigint       not null,
+    question_value          varchar(255) not null,
+    primary key (review_form_snapshot_id, position),
+    foreign key (review_form_snapshot_id) references review_form_snapshot (id)
+);
+
+-- 기존 회고 폼은 지금 내용을 1번 버전으로 남긴다.
+insert into review_form_snapshot (id, review_form_id, version, review_title, updated_at)
+select id, id, 1, review_title, updated_at
+from review_form;
+
+insert into review_form_snapshot_question (review_form_snapshot_id, position, question_id, question_value)
+select review_form_id, position, id, question_value
+from review_form_question
+where review_form_id is not null;
+
+insert into id_generator (sequence_name, next_val)
+select 'review_form_snapshot', coalesce(max(id), 0) + 1
+from review_form_snapshot;
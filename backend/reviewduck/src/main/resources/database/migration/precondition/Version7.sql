@@ -0,0 +1,6 @@
+-- review_form.code 에 유일 인덱스를 만들기 전에 같은 코드를 가진 회고 폼이 없어야 한다.
+-- 결과가 나오면 중복된 회고 폼을 정리한 뒤 다시 기동한다.
+select code, count(*) as duplicate_count
+from review_form
+group by code
+having count(*) > 1;
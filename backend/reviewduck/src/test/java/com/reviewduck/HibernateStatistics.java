@@ -0,0 +1,32 @@
+package com.reviewduck;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 쿼리 수를 세는 테스트에서 Hibernate 통계를 비우고 작업을 실행한 뒤, 쓰기 지연된 SQL 까지 실행한 통계를 돌려준다.
+ */
+public final class HibernateStatistics {
+
+    private HibernateStatistics() {
+    }
+
+    public static Statistics record(EntityManager entityManager, Runnable runnable) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        runnable.run();
+        entityManager.flush();
+
+        return statistics;
+    }
+
+    public static long countStatements(EntityManager entityManager, Runnable runnable) {
+        return record(entityManager, runnable).getPrepareStatementCount();
+    }
+}
@@ -3,6 +3,7 @@ package com.reviewduck.acceptance;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -36,6 +37,21 @@ public class AcceptanceTest {
             .then().log().all();
     }
 
+    public ValidatableResponse getIfNoneMatch(String url, String eTag) {
+        return RestAssured.given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when().get(url)
+            .then().log().all();
+    }
+
+    public ValidatableResponse getWithoutRedirect(String url) {
+        return RestAssured.given().log().all()
+            .redirects().follow(false)
+            .when().get(url)
+            .then().log().all();
+    }
+
     public ValidatableResponse put(String url, Object request) {
         return RestAssured.given().log().all()
             .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -44,6 +60,14 @@ public class AcceptanceTest {
             .then().log().all();
     }
 
+    public ValidatableResponse patch(String url, Object request) {
+        return RestAssured.given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(request)
+            .when().patch(url)
+            .then().log().all();
+    }
+
     public ValidatableResponse delete(String url) {
         return RestAssured.given().log().all()
             .contentType(MediaType.APPLICATION_JSON_VALUE)
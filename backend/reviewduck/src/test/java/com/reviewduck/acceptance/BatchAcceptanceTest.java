@@ -0,0 +1,173 @@
+package com.reviewduck.acceptance;
+
+import static org.hamcrest.Matchers.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.dto.request.AnswerRequest;
+import com.reviewduck.dto.request.BatchItemRequest;
+import com.reviewduck.dto.request.BatchRequest;
+import com.reviewduck.dto.request.QuestionRequest;
+import com.reviewduck.dto.request.QuestionUpdateRequest;
+import com.reviewduck.dto.request.ReviewFormCreateRequest;
+import com.reviewduck.dto.request.ReviewFormUpdateRequest;
+import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.response.ReviewFormCodeResponse;
+
+public class BatchAcceptanceTest extends AcceptanceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String code;
+    private Long questionId;
+
+    @BeforeEach
+    void createReviewForm() {
+        code = post("/api/review-forms",
+            new ReviewFormCreateRequest("title", List.of(new QuestionRequest("question1"))))
+            .extract()
+            .as(ReviewFormCodeResponse.class)
+            .getReviewFormCode();
+        questionId = get("/api/review-forms/" + code)
+            .extract()
+            .jsonPath()
+            .getLong("questions[0].questionId");
+        post("/api/review-forms/" + code, new ReviewRequest("제이슨", List.of(new AnswerRequest(questionId, "answer1"))));
+    }
+
+    @Test
+    @DisplayName("여러 조회 요청을 한 번에 실행하고 응답을 순서대로 돌려준다.")
+    void executeReads() {
+        // given
+        BatchRequest request = new BatchRequest(List.of(
+            getRequest("/api/review-forms/" + code),
+            getRequest("/api/review-forms/" + code + "/reviews"),
+            getRequest("/api/templates")), false);
+
+        // when, then
+        post("/api/batch", request)
+            .statusCode(HttpStatus.OK.value())
+            .body("responses.status", contains(200, 200, 200))
+            .body("responses[0].body.reviewTitle", equalTo("title"))
+            .body("responses[0].headers", hasKey(HttpHeaders.ETAG))
+            .body("responses[1].body.reviews[0].nickname", equalTo("제이슨"))
+            .body("responses[2].body.templates", empty());
+    }
+
+    @Test
+    @DisplayName("하위 요청의 조건부 헤더를 그대로 처리한다.")
+    void executeConditionalRead() {
+        // given
+        String eTag = post("/api/batch", new BatchRequest(List.of(getRequest("/api/review-forms/" + code)), false))
+            .extract()
+            .jsonPath()
+            .getString("responses[0].headers.ETag");
+        BatchRequest request = new BatchRequest(List.of(new BatchItemRequest("GET", "/api/review-forms/" + code,
+            Map.of(HttpHeaders.IF_NONE_MATCH, eTag), null)), false);
+
+        // when, then
+        post("/api/batch", request)
+            .statusCode(HttpStatus.OK.value())
+            .body("responses[0].status", equalTo(HttpStatus.NOT_MODIFIED.value()));
+    }
+
+    @Test
+    @DisplayName("하위 요청의 날짜 헤더를 읽을 수 없으면 조건 없이 조회한다.")
+    void executeReadWithMalformedDateHeader() {
+        // given
+        BatchRequest request = new BatchRequest(List.of(new BatchItemRequest("GET", "/api/review-forms/" + code,
+            Map.of(HttpHeaders.IF_MODIFIED_SINCE, "yesterday"), null)), false);
+
+        // when, then
+        post("/api/batch", request)
+            .statusCode(HttpStatus.OK.value())
+            .body("responses[0].status", equalTo(HttpStatus.OK.value()))
+            .body("responses[0].body.reviewTitle", equalTo("title"));
+    }
+
+    @Test
+    @DisplayName("실패한 요청이 있어도 나머지 요청을 실행한다.")
+    void executeIndependently() {
+        // given
+        BatchRequest request = new BatchRequest(List.of(
+            getRequest("/api/review-forms/aaaaaaaa"),
+            getRequest("/api/review-forms/" + code)), false);
+
+        // when, then
+        post("/api/batch", request)
+            .statusCode(HttpStatus.OK.value())
+            .body("responses.status", contains(404, 200))
+            .body("responses[0].body.message", equalTo("존재하지 않는 회고 폼입니다."));
+    }
+
+    @Test
+    @DisplayName("처음 실패한 요청 뒤의 요청은 실행하지 않도록 할 수 있다.")
+    void executeFailFast() {
+        // given
+        BatchRequest request = new BatchRequest(List.of(
+            getRequest("/api/review-forms/aaaaaaaa"),
+            getRequest("/api/review-forms/" + code)), true);
+
+        // when, then
+        post("/api/batch", request)
+            .statusCode(HttpStatus.OK.value())
+            .body("responses.status", contains(404, 424));
+    }
+
+    @Test
+    @DisplayName("수정 요청도 기존 핸들러로 실행한다.")
+    void executeWrite() {
+        // given
+        ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest("new title",
+            List.of(new QuestionUpdateRequest(questionId, "question1")));
+        BatchRequest request = new BatchRequest(List.of(
+            new BatchItemRequest("PUT", "/api/review-forms/" + code, null, objectMapper.valueToTree(updateRequest)),
+            getRequest("/api/review-forms/" + code)), false);
+
+        // when, then
+        post("/api/batch", request)
+            .statusCode(HttpStatus.OK.value())
+            .body("responses.status", contains(200, 200))
+            .body("responses[1].body.reviewTitle", equalTo("new title"));
+    }
+
+    @Test
+    @DisplayName("다른 주소나 결과를 나중에 돌려주는 요청은 실행하지 않는다.")
+    void rejectUnsupportedRequests() {
+        // given
+        ReviewRequest reviewRequest = new ReviewRequest("브리", List.of(new AnswerRequest(questionId, "answer")));
+        BatchRequest request = new BatchRequest(List.of(
+            getRequest("/api/batch"),
+            new BatchItemRequest("POST", "/api/review-forms/" + code, null, objectMapper.valueToTree(reviewRequest))),
+            false);
+
+        // when, then
+        post("/api/batch", request)
+            .statusCode(HttpStatus.OK.value())
+            .body("responses.status", contains(400, 400));
+    }
+
+    @Test
+    @DisplayName("일괄 요청 개수를 넘으면 실행하지 않는다.")
+    void rejectTooManyRequests() {
+        // given
+        List<BatchItemRequest> requests = Collections.nCopies(21, getRequest("/api/templates"));
+
+        // when, then
+        post("/api/batch", new BatchRequest(requests, false))
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("message", containsString("일괄 요청은 20개까지 보낼 수 있습니다."));
+    }
+
+    private BatchItemRequest getRequest(String path) {
+        return new BatchItemRequest("GET", path, null, null);
+    }
+}
@@ -1,7 +1,11 @@
 package com.reviewduck.acceptance;
 
+import static org.hamcrest.Matchers.*;
+
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -9,13 +13,27 @@ import org.springframework.http.HttpStatus;
 import com.reviewduck.dto.request.AnswerRequest;
 import com.reviewduck.dto.request.QuestionRequest;
 import com.reviewduck.dto.request.ReviewFormCreateRequest;
+import com.reviewduck.dto.request.ReviewPatchRequest;
 import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.response.QuestionResponse;
 import com.reviewduck.dto.response.ReviewFormCodeResponse;
+import com.reviewduck.dto.response.ReviewFormResponse;
 import com.reviewduck.dto.response.ReviewsFindResponse;
 
 public class ReviewAcceptanceTest extends AcceptanceTest {
 
     private final Long invalidReviewId = 99L;
+    private String code;
+    private List<Long> questionIds;
+
+    @BeforeEach
+    void createReviewForm() {
+        String reviewTitle = "title";
+        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
+            new QuestionRequest("question2"));
+        this.code = createReviewFormAndGetCode(reviewTitle, questions);
+        this.questionIds = findQuestionIds(code);
+    }
 
     @Test
     @DisplayName("회고를 수정한다.")
@@ -24,7 +42,8 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
 
         //when, then
         ReviewRequest editRequest = new ReviewRequest("제이슨",
-            List.of(new AnswerRequest(1L, "editedAnswer1"), new AnswerRequest(2L, "editedAnswer2")));
+            List.of(new AnswerRequest(questionIds.get(0), "editedAnswer1"),
+                new AnswerRequest(questionIds.get(1), "editedAnswer2")));
 
         put("/api/reviews/" + reviewId, editRequest)
             .statusCode(HttpStatus.NO_CONTENT.value());
@@ -35,27 +54,42 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
     void failToEditReview() {
         // when, then
         ReviewRequest createRequest = new ReviewRequest("제이슨",
-            List.of(new AnswerRequest(1L, "answer1"), new AnswerRequest(2L, "answer2")));
+            List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                new AnswerRequest(questionIds.get(1), "answer2")));
         put("/api/reviews/" + invalidReviewId, createRequest)
             .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
     @Test
-    @DisplayName("회고를 삭제한다.")
-    void deleteReview() {
+    @DisplayName("회고 답변 중 일부만 수정한다.")
+    void patchReview() {
         // given
-        String reviewTitle = "title";
-        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
-            new QuestionRequest("question2"));
-        String code = createReviewFormAndGetCode(reviewTitle, questions);
-        ReviewRequest createRequest = new ReviewRequest("제이슨",
-            List.of(new AnswerRequest(1L, "answer1"), new AnswerRequest(2L, "answer2")));
-        post("/api/review-forms/" + code, createRequest);
+        Long reviewId = saveReviewAndGetId();
 
-        ReviewsFindResponse response = get("/api/review-forms/" + code + "/reviews")
-            .extract()
-            .as(ReviewsFindResponse.class);
+        // when
+        patch("/api/reviews/" + reviewId,
+            new ReviewPatchRequest(List.of(new AnswerRequest(questionIds.get(1), "editedAnswer2"))))
+            .statusCode(HttpStatus.NO_CONTENT.value());
 
+        // then
+        get("/api/review-forms/" + code + "/reviews")
+            .statusCode(HttpStatus.OK.value())
+            .body("reviews[0].answers.answerValue", contains("answer1", "editedAnswer2"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회고의 답변을 일부 수정할 수 없다.")
+    void failToPatchReview() {
+        // when, then
+        patch("/api/reviews/" + invalidReviewId,
+            new ReviewPatchRequest(List.of(new AnswerRequest(questionIds.get(0), "answer1"))))
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @DisplayName("회고를 삭제한다.")
+    void deleteReview() {
+        // given
         Long reviewId = saveReviewAndGetId();
 
         //when, then
@@ -82,13 +116,19 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
             .getReviewFormCode();
     }
 
+    private List<Long> findQuestionIds(String code) {
+        return get("/api/review-forms/" + code)
+            .extract()
+            .as(ReviewFormResponse.class)
+            .getQuestions().stream()
+            .map(QuestionResponse::getQuestionId)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
     private Long saveReviewAndGetId() {
-        String reviewTitle = "title";
-        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
-            new QuestionRequest("question2"));
-        String code = createReviewFormAndGetCode(reviewTitle, questions);
         ReviewRequest createRequest = new ReviewRequest("제이슨",
-            List.of(new AnswerRequest(1L, "answer1"), new AnswerRequest(2L, "answer2")));
+            List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                new AnswerRequest(questionIds.get(1), "answer2")));
         post("/api/review-forms/" + code, createRequest);
 
         return get("/api/review-forms/" + code + "/reviews")
@@ -4,11 +4,23 @@ import static org.assertj.core.api.Assertions.*;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import com.reviewduck.dto.request.AnswerRequest;
 import com.reviewduck.dto.request.QuestionRequest;
@@ -16,13 +28,16 @@ import com.reviewduck.dto.request.QuestionUpdateRequest;
 import com.reviewduck.dto.request.ReviewFormCreateRequest;
 import com.reviewduck.dto.request.ReviewFormUpdateRequest;
 import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.response.QuestionResponse;
 import com.reviewduck.dto.response.ReviewFormCodeResponse;
 import com.reviewduck.dto.response.ReviewFormResponse;
+import com.reviewduck.dto.response.ReviewFormWithReviewsResponse;
 import com.reviewduck.dto.response.ReviewResponse;
 import com.reviewduck.dto.response.ReviewsFindResponse;
 
 public class ReviewFormAcceptanceTest extends AcceptanceTest {
     private final String invalidCode = "aaaaaaaa";
+    private final Long invalidQuestionId = 9999999L;
 
     @Test
     @DisplayName("회고 폼을 생성한다.")
@@ -61,6 +76,109 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
     }
 
     @Test
+    @DisplayName("gzip을 받을 수 있으면 압축된 회고폼을 조회한다.")
+    void findGzippedReviewForm() {
+        // given
+        String reviewFormCode = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+
+        // when, then
+        get("/api/review-forms/" + reviewFormCode)
+            .statusCode(HttpStatus.OK.value())
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("회고폼이 바뀌지 않았으면 본문 없이 304를 응답한다.")
+    void findNotModifiedReviewForm() {
+        // given
+        String reviewFormCode = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        String eTag = get("/api/review-forms/" + reviewFormCode).extract().header(HttpHeaders.ETAG);
+
+        // when, then
+        getIfNoneMatch("/api/review-forms/" + reviewFormCode, eTag)
+            .statusCode(HttpStatus.NOT_MODIFIED.value())
+            .header(HttpHeaders.ETAG, eTag);
+    }
+
+    @Test
+    @DisplayName("회고폼을 수정하면 ETag가 바뀐다.")
+    void findModifiedReviewForm() {
+        // given
+        String reviewFormCode = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        String eTag = get("/api/review-forms/" + reviewFormCode).extract().header(HttpHeaders.ETAG);
+        Long questionId = findQuestionIds(reviewFormCode).get(0);
+
+        put("/api/review-forms/" + reviewFormCode, new ReviewFormUpdateRequest("title",
+            List.of(new QuestionUpdateRequest(questionId, "new question1"))));
+
+        // when
+        String newETag = getIfNoneMatch("/api/review-forms/" + reviewFormCode, eTag)
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+        // then
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("회고폼을 조회하면 현재 버전의 주소를 함께 알려준다.")
+    void findReviewFormWithContentLocation() {
+        // given
+        String reviewFormCode = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+
+        // when, then
+        get("/api/review-forms/" + reviewFormCode)
+            .statusCode(HttpStatus.OK.value())
+            .header(HttpHeaders.CONTENT_LOCATION, "/api/review-forms/" + reviewFormCode + "/versions/1")
+            .body("version", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("버전을 지정한 회고폼은 수정 후에도 같은 내용을 오래 캐시하도록 응답한다.")
+    void findReviewFormVersion() {
+        // given
+        String reviewFormCode = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        Long questionId = findQuestionIds(reviewFormCode).get(0);
+        put("/api/review-forms/" + reviewFormCode, new ReviewFormUpdateRequest("new title",
+            List.of(new QuestionUpdateRequest(questionId, "new question1"))));
+
+        // when, then
+        get("/api/review-forms/" + reviewFormCode + "/versions/1")
+            .statusCode(HttpStatus.OK.value())
+            .header(HttpHeaders.CACHE_CONTROL, containsString("immutable"))
+            .body("reviewTitle", equalTo("title"))
+            .body("questions[0].questionValue", equalTo("question1"));
+        get("/api/review-forms/" + reviewFormCode + "/versions/2")
+            .statusCode(HttpStatus.OK.value())
+            .body("reviewTitle", equalTo("new title"));
+    }
+
+    @Test
+    @DisplayName("최신 버전 주소를 요청하면 현재 버전의 주소로 이동한다.")
+    void findLatestReviewFormVersion() {
+        // given
+        String reviewFormCode = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+
+        // when, then
+        getWithoutRedirect("/api/review-forms/" + reviewFormCode + "/versions/latest")
+            .statusCode(HttpStatus.FOUND.value())
+            .header(HttpHeaders.LOCATION, endsWith("/api/review-forms/" + reviewFormCode + "/versions/1"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 버전의 회고폼을 조회할 수 없다.")
+    void findReviewFormWithInvalidVersion() {
+        // given
+        String reviewFormCode = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+
+        // when, then
+        get("/api/review-forms/" + reviewFormCode + "/versions/2")
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+        @Test
     @DisplayName("회고폼 조회에 실패한다.")
     void failToFindReviewForm() {
         // when, then
@@ -77,8 +195,9 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         String createReviewFormCode = createReviewFormAndGetCode("title", createQuestions);
 
         // when, then
+        Long questionId = findQuestionIds(createReviewFormCode).get(0);
         String newReviewTitle = "new title";
-        List<QuestionUpdateRequest> updateQuestions = List.of(new QuestionUpdateRequest(1L, "new question1"));
+        List<QuestionUpdateRequest> updateQuestions = List.of(new QuestionUpdateRequest(questionId, "new question1"));
         ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(newReviewTitle, updateQuestions);
         put("/api/review-forms/" + createReviewFormCode, updateRequest)
             .statusCode(HttpStatus.OK.value())
@@ -90,7 +209,7 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         assertAll(
             () -> assertThat(getResponse.getReviewTitle()).isEqualTo(newReviewTitle),
             () -> assertThat(getResponse.getQuestions()).hasSize(1),
-            () -> assertThat(getResponse.getQuestions().get(0).getQuestionId()).isEqualTo(1L),
+            () -> assertThat(getResponse.getQuestions().get(0).getQuestionId()).isEqualTo(questionId),
             () -> assertThat(getResponse.getQuestions().get(0).getQuestionValue()).isEqualTo("new question1")
         );
     }
@@ -106,6 +225,65 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
             .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @Test
+    @DisplayName("회고 여러 개를 한 번에 생성하고 요청마다 결과를 알려준다.")
+    void createReviewsInBulk() {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        Long questionId = findQuestionIds(code).get(0);
+        List<ReviewRequest> requests = List.of(
+            new ReviewRequest("제이슨", List.of(new AnswerRequest(questionId, "answer1"))),
+            new ReviewRequest("브리", List.of(new AnswerRequest(questionId, null))),
+            new ReviewRequest("엘리", List.of(new AnswerRequest(questionId, "answer3"))));
+
+        // when, then
+        post("/api/review-forms/" + code + "/reviews:bulk", requests)
+            .statusCode(HttpStatus.OK.value())
+            .body("createdCount", equalTo(2))
+            .body("failedCount", equalTo(1))
+            .body("results.status", contains(201, 400, 201))
+            .body("results[1].message", equalTo("답변은 비어있을 수 없습니다."));
+        get("/api/review-forms/" + code + "/reviews")
+            .body("reviews.nickname", containsInAnyOrder("제이슨", "엘리"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회고폼에 회고 여러 개를 생성할 수 없다.")
+    void createReviewsInBulkWithInvalidCode() {
+        // when, then
+        post("/api/review-forms/aaaaaaaa/reviews:bulk", List.of())
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @DisplayName("회고폼을 회고와 함께 삭제한다.")
+    void deleteReviewForm() {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        Long questionId = findQuestionIds(code).get(0);
+        post("/api/review-forms/" + code,
+            new ReviewRequest("제이슨", List.of(new AnswerRequest(questionId, "answer1"))));
+        get("/api/review-forms/" + code + "/versions/1");
+
+        // when
+        delete("/api/review-forms/" + code)
+            .statusCode(HttpStatus.NO_CONTENT.value());
+
+        // then
+        get("/api/review-forms/" + code)
+            .statusCode(HttpStatus.NOT_FOUND.value());
+        get("/api/review-forms/" + code + "/versions/1")
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회고폼을 삭제할 수 없다.")
+    void deleteInvalidReviewForm() {
+        // when, then
+        delete("/api/review-forms/aaaaaaaa")
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
     private String createReviewFormAndGetCode(String reviewTitle, List<QuestionRequest> questions) {
         ReviewFormCreateRequest request = new ReviewFormCreateRequest(reviewTitle, questions);
 
@@ -123,6 +301,7 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
             new QuestionRequest("question2"));
         String code = createReviewFormAndGetCode(reviewTitle, questions);
+        List<Long> questionIds = findQuestionIds(code);
 
         // when, then
         // 질문조회
@@ -130,7 +309,8 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
 
         // 리뷰생성
         ReviewRequest createRequest = new ReviewRequest("제이슨",
-            List.of(new AnswerRequest(1L, "answer1"), new AnswerRequest(2L, "answer2")));
+            List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                new AnswerRequest(questionIds.get(1), "answer2")));
         post("/api/review-forms/" + code, createRequest)
             .statusCode(HttpStatus.CREATED.value());
     }
@@ -142,6 +322,7 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         String reviewTitle = "title";
         List<QuestionRequest> questions = List.of(new QuestionRequest("question1"));
         String code = createReviewFormAndGetCode(reviewTitle, questions);
+        List<Long> questionIds = findQuestionIds(code);
 
         // when, then
         // 질문조회
@@ -149,7 +330,8 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
 
         // 리뷰생성
         ReviewRequest createRequest = new ReviewRequest("제이슨",
-            List.of(new AnswerRequest(1L, "answer1"), new AnswerRequest(2L, "answer2")));
+            List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                new AnswerRequest(invalidQuestionId, "answer2")));
         post("/api/review-forms/" + code, createRequest)
             .statusCode(HttpStatus.NOT_FOUND.value());
     }
@@ -162,9 +344,11 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
             new QuestionRequest("question2"));
         String code = createReviewFormAndGetCode(reviewTitle, questions);
+        List<Long> questionIds = findQuestionIds(code);
 
         ReviewRequest createRequest = new ReviewRequest("제이슨",
-            List.of(new AnswerRequest(1L, "answer1"), new AnswerRequest(2L, "answer2")));
+            List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                new AnswerRequest(questionIds.get(1), "answer2")));
         post("/api/review-forms/" + code, createRequest);
 
         // when
@@ -183,6 +367,149 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         );
     }
 
+    @Test
+    @DisplayName("회고가 새로 작성되지 않았으면 회고 전체 조회에 본문 없이 304를 응답한다.")
+    void findNotModifiedReviews() {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        Long questionId = findQuestionIds(code).get(0);
+        post("/api/review-forms/" + code,
+            new ReviewRequest("제이슨", List.of(new AnswerRequest(questionId, "answer1"))));
+        String eTag = get("/api/review-forms/" + code + "/reviews").extract().header(HttpHeaders.ETAG);
+
+        // when, then
+        getIfNoneMatch("/api/review-forms/" + code + "/reviews", eTag)
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        post("/api/review-forms/" + code,
+            new ReviewRequest("브리", List.of(new AnswerRequest(questionId, "answer2"))));
+        getIfNoneMatch("/api/review-forms/" + code + "/reviews", eTag)
+            .statusCode(HttpStatus.OK.value())
+            .body("reviews", hasSize(2));
+    }
+
+    @Test
+    @DisplayName("회고 폼과 회고 전체를 한 번에 조회한다.")
+    void findReviewFormWithReviews() {
+        // given
+        String reviewTitle = "title";
+        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
+            new QuestionRequest("question2"));
+        String code = createReviewFormAndGetCode(reviewTitle, questions);
+        List<Long> questionIds = findQuestionIds(code);
+
+        ReviewRequest createRequest = new ReviewRequest("제이슨",
+            List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                new AnswerRequest(questionIds.get(1), "answer2")));
+        post("/api/review-forms/" + code, createRequest);
+
+        // when
+        ReviewFormWithReviewsResponse response = get("/api/review-forms/" + code + "?include=reviews")
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(ReviewFormWithReviewsResponse.class);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReviewTitle()).isEqualTo(reviewTitle),
+            () -> assertThat(response.getQuestions()).extracting("questionId")
+                .containsExactlyElementsOf(questionIds),
+            () -> assertThat(response.getReviews()).hasSize(1),
+            () -> assertThat(response.getReviews().get(0).getAnswers()).hasSize(2)
+        );
+    }
+
+    @Test
+    @DisplayName("특정 회고 폼에 속한 회고를 커서 기반으로 나누어 조회한다.")
+    void findReviewsByCursor() {
+        // given
+        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
+            new QuestionRequest("question2"));
+        String code = createReviewFormAndGetCode("title", questions);
+        List<Long> questionIds = findQuestionIds(code);
+
+        for (String nickname : List.of("제이슨", "브리", "그린론")) {
+            ReviewRequest createRequest = new ReviewRequest(nickname,
+                List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                    new AnswerRequest(questionIds.get(1), "answer2")));
+            post("/api/review-forms/" + code, createRequest);
+        }
+
+        // when
+        ReviewsFindResponse firstPage = get("/api/review-forms/" + code + "/reviews?limit=2")
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(ReviewsFindResponse.class);
+
+        ReviewsFindResponse secondPage = get(
+            "/api/review-forms/" + code + "/reviews?limit=2&cursor=" + firstPage.getNextCursor())
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(ReviewsFindResponse.class);
+
+        // then
+        assertAll(
+            () -> assertThat(firstPage.getReviews()).hasSize(2),
+            () -> assertThat(firstPage.getNextCursor()).isNotNull(),
+            () -> assertThat(secondPage.getReviews()).hasSize(1),
+            () -> assertThat(secondPage.getReviews().get(0).getNickname()).isEqualTo("그린론"),
+            () -> assertThat(secondPage.getNextCursor()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("특정 회고 폼에 속한 회고 전체를 스트리밍으로 조회한다.")
+    void streamReviews() {
+        // given
+        String reviewTitle = "title";
+        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
+            new QuestionRequest("question2"));
+        String code = createReviewFormAndGetCode(reviewTitle, questions);
+        List<Long> questionIds = findQuestionIds(code);
+
+        ReviewRequest createRequest = new ReviewRequest("제이슨",
+            List.of(new AnswerRequest(questionIds.get(0), "answer1"),
+                new AnswerRequest(questionIds.get(1), "answer2")));
+        post("/api/review-forms/" + code, createRequest);
+
+        // when
+        ReviewsFindResponse response = get("/api/review-forms/" + code + "/reviews?stream=true")
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(ReviewsFindResponse.class);
+
+        ReviewResponse reviewResponse = response.getReviews().get(0);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReviewFormTitle()).isEqualTo(reviewTitle),
+            () -> assertThat(reviewResponse.getNickname()).isEqualTo("제이슨"),
+            () -> assertThat(reviewResponse.getAnswers()).hasSize(2)
+        );
+    }
+
+    @Test
+    @DisplayName("기준점 이후의 회고를 스트리밍으로 조회할 수 없다.")
+    void streamReviewChanges() {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+
+        // when, then
+        get("/api/review-forms/" + code + "/reviews?stream=true&since=" + System.currentTimeMillis())
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서로 회고를 조회할 수 없다.")
+    void findReviewsWithInvalidCursor() {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+
+        // when, then
+        get("/api/review-forms/" + code + "/reviews?cursor=invalid")
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     @DisplayName("존재하지 회고 폼 코드에 대해 회고를 조회할 수 없다.")
     void findReviewsWithInvalidCode() {
@@ -191,6 +518,104 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
             .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @Test
+    @DisplayName("기준점 이후에 바뀐 회고와 삭제된 회고 번호만 조회한다.")
+    void findReviewChanges() {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        List<Long> questionIds = findQuestionIds(code);
+        long since = System.currentTimeMillis() - 60_000;
+
+        post("/api/review-forms/" + code,
+            new ReviewRequest("제이슨", List.of(new AnswerRequest(questionIds.get(0), "answer1"))));
+        post("/api/review-forms/" + code,
+            new ReviewRequest("브리", List.of(new AnswerRequest(questionIds.get(0), "answer2"))));
+        Long deletedReviewId = get("/api/review-forms/" + code + "/reviews")
+            .extract()
+            .jsonPath()
+            .getLong("reviews.find { it.nickname == '브리' }.reviewId");
+        delete("/api/reviews/" + deletedReviewId);
+
+        // when, then
+        get("/api/review-forms/" + code + "/reviews?since=" + since)
+            .statusCode(HttpStatus.OK.value())
+            .body("reset", equalTo(false))
+            .body("reviews.nickname", contains("제이슨"))
+            .body("deletedReviewIds", contains(deletedReviewId.intValue()))
+            .body("watermark", greaterThan(since));
+    }
+
+    @Test
+    @DisplayName("음수 기준점으로 바뀐 회고를 조회할 수 없다.")
+    void findReviewChangesWithInvalidWatermark() {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+
+        // when, then
+        get("/api/review-forms/" + code + "/reviews?since=-1")
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("회고 폼을 구독하면 새로 작성된 회고를 이벤트로 받는다.")
+    void subscribeReviews() throws Exception {
+        // given
+        String code = createReviewFormAndGetCode("title", List.of(new QuestionRequest("question1")));
+        List<Long> questionIds = findQuestionIds(code);
+
+        try (Stream<String> events = openEventStream(code).body()) {
+            Iterator<String> lines = events.iterator();
+            CompletableFuture<String> createdEvent = CompletableFuture.supplyAsync(() -> readData(lines, "created"));
+
+            // when
+            post("/api/review-forms/" + code,
+                new ReviewRequest("제이슨", List.of(new AnswerRequest(questionIds.get(0), "answer1"))))
+                .statusCode(HttpStatus.CREATED.value());
+
+            // then
+            assertThat(createdEvent.get(5, TimeUnit.SECONDS))
+                .contains("\"nickname\":\"제이슨\"")
+                .contains("\"answerValue\":\"answer1\"");
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회고 폼은 구독할 수 없다.")
+    void subscribeReviewsWithInvalidCode() throws Exception {
+        // when
+        HttpResponse<Stream<String>> response = openEventStream(invalidCode);
+        response.body().close();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    private HttpResponse<Stream<String>> openEventStream(String code) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/review-forms/" + code + "/reviews/events"))
+            .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+            .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+    }
+
+    private String readData(Iterator<String> lines, String eventName) {
+        while (lines.hasNext()) {
+            if (lines.next().equals("event:" + eventName)) {
+                return lines.next();
+            }
+        }
+        throw new IllegalStateException("이벤트를 받지 못했습니다.");
+    }
+
+    private List<Long> findQuestionIds(String code) {
+        return get("/api/review-forms/" + code)
+            .extract()
+            .as(ReviewFormResponse.class)
+            .getQuestions().stream()
+            .map(QuestionResponse::getQuestionId)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
     private void assertReviewTitleFromFoundReviewForm(String code, String reviewTitle) {
         ReviewFormResponse reviewFormResponse = get("/api/review-forms/" + code)
             .statusCode(HttpStatus.OK.value())
@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import com.reviewduck.dto.request.QuestionRequest;
@@ -13,7 +14,9 @@ import com.reviewduck.dto.request.QuestionUpdateRequest;
 import com.reviewduck.dto.request.ReviewFormCreateFromTemplateRequest;
 import com.reviewduck.dto.request.TemplateCreateRequest;
 import com.reviewduck.dto.request.TemplateUpdateRequest;
+import com.reviewduck.dto.response.QuestionResponse;
 import com.reviewduck.dto.response.TemplateCreateResponse;
+import com.reviewduck.dto.response.TemplateResponse;
 
 public class TemplateAcceptanceTest extends AcceptanceTest {
 
@@ -82,6 +85,37 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
 
     }
 
+    @Test
+    @DisplayName("템플릿이 추가되지 않았으면 전체 템플릿 조회에 본문 없이 304를 응답한다.")
+    void findNotModifiedTemplates() {
+        // given
+        post("/api/templates", new TemplateCreateRequest("title1", "test description1",
+            List.of(new QuestionRequest("question1"))));
+        String eTag = get("/api/templates").extract().header(HttpHeaders.ETAG);
+
+        // when, then
+        getIfNoneMatch("/api/templates", eTag).statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        post("/api/templates", new TemplateCreateRequest("title2", "test description2",
+            List.of(new QuestionRequest("question2"))));
+        getIfNoneMatch("/api/templates", eTag).statusCode(HttpStatus.OK.value())
+            .assertThat().body("templates", hasSize(2));
+    }
+
+    @Test
+    @DisplayName("템플릿이 바뀌지 않았으면 본문 없이 304를 응답한다.")
+    void findNotModifiedTemplate() {
+        // given
+        Long templateId = post("/api/templates", new TemplateCreateRequest("title", "test description",
+            List.of(new QuestionRequest("question1")))).extract()
+            .as(TemplateCreateResponse.class)
+            .getTemplateId();
+        String eTag = get("/api/templates/" + templateId).extract().header(HttpHeaders.ETAG);
+
+        // when, then
+        getIfNoneMatch("/api/templates/" + templateId, eTag).statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
     @Test
     @DisplayName("존재하지 않는 템플릿을 조회할 수 없다.")
     void findTemplateWithInvalidId() {
@@ -153,12 +187,16 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
             .as(TemplateCreateResponse.class)
             .getTemplateId();
 
+        List<QuestionResponse> savedQuestions = get("/api/templates/" + templateId).extract()
+            .as(TemplateResponse.class)
+            .getQuestions();
+
         // when, then
         String newTemplateTitle = "new title";
         String newTemplateDescription = "new test description";
         List<QuestionUpdateRequest> newQuestions = List.of(
-            new QuestionUpdateRequest(1L, "new question1"),
-            new QuestionUpdateRequest(2L, "question2"),
+            new QuestionUpdateRequest(savedQuestions.get(0).getQuestionId(), "new question1"),
+            new QuestionUpdateRequest(savedQuestions.get(1).getQuestionId(), "question2"),
             new QuestionUpdateRequest(null, "question3")
         );
         TemplateUpdateRequest updateRequest = new TemplateUpdateRequest(newTemplateTitle, newTemplateDescription,
@@ -0,0 +1,60 @@
+package com.reviewduck.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 포함된다고 판단한다.")
+    void mightContainPutValues() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        List<String> codes = randomCodes(10_000);
+
+        // when
+        codes.forEach(bloomFilter::put);
+
+        // then
+        assertThat(codes).allMatch(bloomFilter::mightContain);
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값을 포함된다고 잘못 판단하는 비율은 지정한 오탐 확률 근처다.")
+    void falsePositiveProbability() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        randomCodes(10_000).forEach(bloomFilter::put);
+
+        // when
+        long falsePositives = IntStream.range(0, 10_000)
+            .mapToObj(index -> "unknown" + index)
+            .filter(bloomFilter::mightContain)
+            .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수가 양수가 아니면 블룸 필터를 만들 수 없다.")
+    void createWithInvalidExpectedInsertions() {
+        // when, then
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("예상 원소 수는 양수여야 합니다.");
+    }
+
+    private List<String> randomCodes(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(index -> RandomStringUtils.randomAlphanumeric(8).toUpperCase())
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
@@ -0,0 +1,167 @@
+package com.reviewduck.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.dto.projection.ReviewFormSummary;
+import com.reviewduck.dto.response.ReviewFormResponse;
+
+class ReviewFormResponseCacheTest {
+
+    private static final long UPDATED_AT = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReviewFormResponseCache reviewFormResponseCache = new ReviewFormResponseCache(objectMapper);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 회고 폼 응답은 한 번만 직렬화하고 같은 바이트 배열을 돌려준다.")
+    void serializeOnce() {
+        // when
+        SerializedResponse first = reviewFormResponseCache.get("CODE", UPDATED_AT, loader("title"));
+        SerializedResponse second = reviewFormResponseCache.get("CODE", UPDATED_AT, loader("title"));
+
+        // then
+        assertAll(
+            () -> assertThat(loadCount.get()).isEqualTo(1),
+            () -> assertThat(second.getBody(false)).isSameAs(first.getBody(false)),
+            () -> assertThat(second.getBody(true)).isSameAs(first.getBody(true))
+        );
+    }
+
+    @Test
+    @DisplayName("gzip 응답을 풀면 직렬화한 응답과 같다.")
+    void compress() throws IOException {
+        // when
+        SerializedResponse response = reviewFormResponseCache.get("CODE", UPDATED_AT, loader("title"));
+
+        // then
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(response.getBody(true)))) {
+            assertAll(
+                () -> assertThat(inputStream.readAllBytes()).isEqualTo(response.getBody(false)),
+                () -> assertThat(objectMapper.readTree(response.getBody(false)).get("reviewTitle").asText())
+                    .isEqualTo("title")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("캐시에서 지운 회고 폼 응답은 다시 직렬화한다.")
+    void evict() {
+        // given
+        reviewFormResponseCache.get("CODE", UPDATED_AT, loader("title"));
+
+        // when
+        reviewFormResponseCache.evict("CODE");
+        SerializedResponse response = reviewFormResponseCache.get("CODE", UPDATED_AT, loader("new title"));
+
+        // then
+        assertAll(
+            () -> assertThat(loadCount.get()).isEqualTo(2),
+            () -> assertThat(objectMapper.readTree(response.getBody(false)).get("reviewTitle").asText())
+                .isEqualTo("new title")
+        );
+    }
+
+    @Test
+    @DisplayName("수정 시각이 다른 회고 폼 응답은 다시 직렬화한다.")
+    void reloadModified() {
+        // given
+        reviewFormResponseCache.get("CODE", UPDATED_AT, loader("title"));
+
+        // when
+        SerializedResponse response = reviewFormResponseCache.get("CODE", UPDATED_AT + 1,
+            loader("new title", UPDATED_AT + 1));
+
+        // then
+        assertAll(
+            () -> assertThat(loadCount.get()).isEqualTo(2),
+            () -> assertThat(response.getUpdatedAt()).isEqualTo(UPDATED_AT + 1)
+        );
+    }
+
+    @Test
+    @DisplayName("조회한 수정 시각과 다른 응답을 읽으면 읽은 응답의 수정 시각으로 보관한다.")
+    void cacheByLoadedUpdatedAt() {
+        // given
+        // 수정 시각을 읽은 뒤 응답을 읽기 전에 회고 폼이 수정된 경우다.
+        SerializedResponse loaded = reviewFormResponseCache.get("CODE", UPDATED_AT,
+            loader("new title", UPDATED_AT + 1));
+
+        // when
+        SerializedResponse stale = reviewFormResponseCache.get("CODE", UPDATED_AT, loader("title"));
+        SerializedResponse current = reviewFormResponseCache.get("CODE", UPDATED_AT + 1,
+            loader("new title", UPDATED_AT + 1));
+
+        // then
+        assertAll(
+            () -> assertThat(loaded.getUpdatedAt()).isEqualTo(UPDATED_AT + 1),
+            () -> assertThat(stale.getUpdatedAt()).isEqualTo(UPDATED_AT),
+            () -> assertThat(current.getUpdatedAt()).isEqualTo(UPDATED_AT + 1),
+            () -> assertThat(loadCount.get()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("힙에서 밀려난 회고 폼 응답은 다이렉트 버퍼에서 다시 가져온다.")
+    void demoteToOffHeap() {
+        // given
+        int count = 1_000;
+        for (int index = 0; index < count; index++) {
+            reviewFormResponseCache.get("CODE" + index, UPDATED_AT, loader("title" + index));
+        }
+
+        // when
+        for (int index = 0; index < count; index++) {
+            reviewFormResponseCache.get("CODE" + index, UPDATED_AT, loader("title" + index));
+        }
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(count);
+    }
+
+    private Supplier<ReviewFormResponse> loader(String reviewTitle) {
+        return loader(reviewTitle, UPDATED_AT);
+    }
+
+    private Supplier<ReviewFormResponse> loader(String reviewTitle, long updatedAt) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return ReviewFormResponse.of(new ReviewFormSummary() {
+                @Override
+                public Long getId() {
+                    return 1L;
+                }
+
+                @Override
+                public String getReviewTitle() {
+                    return reviewTitle;
+                }
+
+                @Override
+                public int getVersion() {
+                    return 1;
+                }
+
+                @Override
+                public LocalDateTime getUpdatedAt() {
+                    return new Timestamp(updatedAt).toLocalDateTime();
+                }
+            }, List.of());
+        };
+    }
+}
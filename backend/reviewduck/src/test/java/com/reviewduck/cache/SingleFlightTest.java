@@ -0,0 +1,144 @@
+package com.reviewduck.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 조회는 한 번만 실행하고 결과를 나누어 받는다.")
+    void coalesce() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executorService.submit(() -> singleFlight.execute("CODE", () -> {
+            loadCount.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        waitUntil(() -> loadCount.get() == 1);
+
+        // when
+        List<Future<String>> followers = IntStream.range(1, CALLERS)
+            .mapToObj(index -> executorService.submit(() -> singleFlight.execute("CODE", () -> {
+                loadCount.incrementAndGet();
+                return "other result";
+            })))
+            .collect(Collectors.toUnmodifiableList());
+        waitUntil(() -> singleFlight.getCoalescedCount() == CALLERS - 1);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertAll(
+            () -> assertThat(loadCount.get()).isEqualTo(1),
+            () -> assertThat(singleFlight.getLoadCount()).isEqualTo(1),
+            () -> assertThat(singleFlight.getCoalescingRatio()).isEqualTo((double)(CALLERS - 1) / CALLERS)
+        );
+    }
+
+    @Test
+    @DisplayName("키를 뗀 뒤에 들어온 요청은 진행 중인 조회에 합류하지 않고 다시 조회한다.")
+    void executeAfterForget() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> stale = executorService.submit(() -> singleFlight.execute("CODE", () -> {
+            loadCount.incrementAndGet();
+            await(release);
+            return "stale";
+        }));
+        waitUntil(() -> loadCount.get() == 1);
+
+        // when
+        singleFlight.forget("CODE"::equals);
+        String fresh = singleFlight.execute("CODE", () -> "fresh");
+        release.countDown();
+
+        // then
+        assertAll(
+            () -> assertThat(fresh).isEqualTo("fresh"),
+            () -> assertThat(stale.get(1, TimeUnit.SECONDS)).isEqualTo("stale"),
+            () -> assertThat(singleFlight.getCoalescedCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("조회가 끝난 뒤에 들어온 요청은 다시 조회한다.")
+    void executeAfterCompletion() {
+        // when
+        singleFlight.execute("CODE", () -> "first");
+        String second = singleFlight.execute("CODE", () -> "second");
+
+        // then
+        assertAll(
+            () -> assertThat(second).isEqualTo("second"),
+            () -> assertThat(singleFlight.getLoadCount()).isEqualTo(2),
+            () -> assertThat(singleFlight.getCoalescedCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 기다리던 요청도 같은 예외를 받는다.")
+    void shareException() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException exception = new IllegalStateException("조회 실패");
+        Future<String> leader = executorService.submit(() -> singleFlight.execute("CODE", () -> {
+            await(release);
+            throw exception;
+        }));
+        waitUntil(() -> !leader.isDone() && singleFlight.getLoadCount() == 1);
+
+        // when
+        Future<String> follower = executorService.submit(() -> singleFlight.execute("CODE", () -> "result"));
+        waitUntil(() -> singleFlight.getCoalescedCount() == 1);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+            .hasCause(exception);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.reviewduck.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class IdGeneratorMigrationTest {
+
+    private static final String SCRIPT = "database/migration/Version6_addIdGenerator.sql";
+    private static final List<String> TABLES = List.of("review_form", "review_form_question", "review",
+        "question_answer", "answer", "template", "template_question");
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String table : TABLES) {
+            jdbcTemplate.execute("create table " + table + " (id bigint not null, primary key (id))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미 행이 있는 테이블에도 번호 생성기가 처음 내준 번호로 새 행을 넣을 수 있다.")
+    void insertAfterMigration() {
+        // given
+        for (String table : TABLES) {
+            jdbcTemplate.update("insert into " + table + " (id) values (1), (2), (3)");
+        }
+
+        // when
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+
+        // then
+        for (String table : TABLES) {
+            // pooled-lo 는 저장된 값을 첫 번호로 쓴다.
+            Long firstId = jdbcTemplate.queryForObject(
+                "select next_val from id_generator where sequence_name = ?", Long.class, table);
+            jdbcTemplate.update("insert into " + table + " (id) values (?)", firstId);
+            assertThat(jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 테이블의 번호 생성기는 1부터 시작한다.")
+    void startFromOne() {
+        // when
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select next_val from id_generator", Long.class))
+            .hasSize(TABLES.size())
+            .containsOnly(1L);
+    }
+}
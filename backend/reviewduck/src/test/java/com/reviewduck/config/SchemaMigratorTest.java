@@ -0,0 +1,133 @@
+package com.reviewduck.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class SchemaMigratorTest {
+
+    private static final String LOCATION = "classpath:database/migration-test";
+    private static final String FAILURE_LOCATION = "classpath:database/migration-test-failure";
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("마이그레이션 스크립트를 번호 순서대로 적용하고 이력을 남긴다.")
+    void migrate() {
+        // when
+        new SchemaMigrator(dataSource, LOCATION, 0).migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select version from schema_migration_history order by version",
+            Integer.class)).containsExactly(1, 2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from member", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 적용한 마이그레이션 스크립트는 다시 적용하지 않는다.")
+    void migrateTwice() {
+        // given
+        new SchemaMigrator(dataSource, LOCATION, 0).migrate();
+
+        // when
+        new SchemaMigrator(dataSource, LOCATION, 0).migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from schema_migration_history", Integer.class))
+            .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from member", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기준 번호 이하의 마이그레이션 스크립트는 적용하지 않는다.")
+    void migrateAfterBaseline() {
+        // given
+        jdbcTemplate.execute("create table member (id bigint not null, nickname varchar(255) not null)");
+
+        // when
+        new SchemaMigrator(dataSource, LOCATION, 1).migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select version from schema_migration_history", Integer.class))
+            .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("이미 적용한 마이그레이션 스크립트가 변경되면 적용할 수 없다.")
+    void migrateChangedScript() {
+        // given
+        new SchemaMigrator(dataSource, LOCATION, 0).migrate();
+        jdbcTemplate.update("update schema_migration_history set checksum = 'changed' where version = 1");
+
+        // when, then
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, LOCATION, 0).migrate())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("이미 적용된 마이그레이션 스크립트가 변경되었습니다.");
+    }
+
+    @Test
+    @DisplayName("여러 서버가 동시에 마이그레이션해도 스크립트는 한 번만 적용한다.")
+    void migrateConcurrently() {
+        // when
+        CompletableFuture<Void> first = CompletableFuture.runAsync(
+            () -> new SchemaMigrator(dataSource, LOCATION, 0).migrate());
+        CompletableFuture<Void> second = CompletableFuture.runAsync(
+            () -> new SchemaMigrator(dataSource, LOCATION, 0).migrate());
+        CompletableFuture.allOf(first, second).join();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from schema_migration_history", Integer.class))
+            .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from member", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 마이그레이션 스크립트는 되돌리고 이력을 남기지 않는다.")
+    void migrateFailedScript() {
+        // when, then
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, FAILURE_LOCATION, 0).migrate())
+            .isInstanceOf(RuntimeException.class);
+        assertThat(jdbcTemplate.queryForList("select version from schema_migration_history", Integer.class))
+            .containsExactly(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from member", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("사전 조건을 만족하지 않으면 마이그레이션 스크립트를 적용할 수 없다.")
+    void migrateWithoutPrecondition() {
+        // given
+        jdbcTemplate.execute("create table member (id bigint not null, nickname varchar(255) not null)");
+        jdbcTemplate.update("insert into member (id, nickname) values (1, 'reviewduck')");
+
+        // when, then
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, LOCATION, 1).migrate())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("마이그레이션 스크립트를 적용하기 전에 정리해야 할 데이터가 있습니다.");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from schema_migration_history", Integer.class))
+            .isZero();
+    }
+}
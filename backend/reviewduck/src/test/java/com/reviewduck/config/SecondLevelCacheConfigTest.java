@@ -0,0 +1,60 @@
+package com.reviewduck.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+class SecondLevelCacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new SecondLevelCacheConfig().secondLevelCacheManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    @DisplayName("엔티티 캐시 영역은 저장한 뒤 정해진 시간이 지나면 버린다.")
+    void expireEntityRegions() {
+        for (String region : SecondLevelCacheConfig.ENTITY_REGIONS) {
+            assertThat(expireAfterWriteOf(region))
+                .as(region)
+                .isEqualTo(OptionalLong.of(SecondLevelCacheConfig.ENTITY_EXPIRE_AFTER_WRITE_NANOS));
+        }
+    }
+
+    @Test
+    @DisplayName("쿼리 캐시 영역은 엔티티보다 짧은 시간이 지나면 버린다.")
+    void expireQueryRegion() {
+        assertThat(expireAfterWriteOf(SecondLevelCacheConfig.QUERY_REGION))
+            .isEqualTo(OptionalLong.of(SecondLevelCacheConfig.QUERY_EXPIRE_AFTER_WRITE_NANOS));
+    }
+
+    @Test
+    @DisplayName("테이블별 마지막 수정 시각 영역은 버리지 않는다.")
+    void keepTimestampsRegion() {
+        assertThat(expireAfterWriteOf(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private OptionalLong expireAfterWriteOf(String region) {
+        return cacheManager.getCache(region)
+            .getConfiguration(CaffeineConfiguration.class)
+            .getExpireAfterWrite();
+    }
+}
@@ -1,28 +1,38 @@
 package com.reviewduck.controller;
 
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.cache.ReviewFormResponseCache;
 import com.reviewduck.dto.request.AnswerRequest;
 import com.reviewduck.dto.request.QuestionRequest;
 import com.reviewduck.dto.request.QuestionUpdateRequest;
 import com.reviewduck.dto.request.ReviewFormCreateRequest;
 import com.reviewduck.dto.request.ReviewFormUpdateRequest;
 import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.exception.ServiceUnavailableException;
+import com.reviewduck.feed.ReviewFeed;
+import com.reviewduck.service.CoalescingReadService;
+import com.reviewduck.service.GroupCommitReviewWriter;
+import com.reviewduck.service.ReviewFormReadService;
 import com.reviewduck.service.ReviewFormService;
 import com.reviewduck.service.ReviewService;
 
@@ -42,6 +52,21 @@ public class ReviewFormControllerTest {
     @MockBean
     private ReviewService reviewService;
 
+    @MockBean
+    private ReviewFormReadService reviewFormReadService;
+
+    @MockBean
+    private CoalescingReadService coalescingReadService;
+
+    @MockBean
+    private GroupCommitReviewWriter groupCommitReviewWriter;
+
+    @MockBean
+    private ReviewFormResponseCache reviewFormResponseCache;
+
+    @MockBean
+    private ReviewFeed reviewFeed;
+
     @ParameterizedTest
     @NullAndEmptySource
     @DisplayName("회고 폼 생성시 회고 제목에 빈 값이 들어갈 경우 예외가 발생한다.")
@@ -142,6 +167,23 @@ public class ReviewFormControllerTest {
         assertBadRequestFromPost("/api/review-forms/" + invalidCode, request, "회고 답변 관련 오류가 발생했습니다.");
     }
 
+    @Test
+    @DisplayName("회고 작성 요청이 밀려 있으면 잠시 뒤 다시 보내라고 응답한다.")
+    void createReviewWhenQueueIsFull() throws Exception {
+        // given
+        ReviewRequest request = new ReviewRequest("제이슨", List.of(new AnswerRequest(1L, "answer1")));
+        given(groupCommitReviewWriter.submit(any(), any()))
+            .willThrow(new ServiceUnavailableException("회고 작성 요청이 많습니다. 잠시 후 다시 시도해주세요.", 1));
+
+        // when, then
+        mockMvc.perform(post("/api/review-forms/" + invalidCode)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+            ).andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+            .andExpect(jsonPath("$.message", containsString("잠시 후 다시 시도해주세요.")));
+    }
+
     private void assertBadRequestFromPost(String uri, Object request, String errorMessage) throws Exception {
         mockMvc.perform(post(uri)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,22 @@
+package com.reviewduck.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.reviewduck.exception.ReviewException;
+
+public class ReviewCursorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "invalid", "!!!", "MjAyMi0wNy0yMFQxMDowMDowMA"})
+    @DisplayName("올바르지 않은 커서는 해석할 수 없다.")
+    void decodeInvalidCursor(String token) {
+        // when, then
+        assertThatThrownBy(() -> ReviewCursor.decode(token))
+            .isInstanceOf(ReviewException.class)
+            .hasMessageContaining("회고 목록 조회 커서가 올바르지 않습니다.");
+    }
+}
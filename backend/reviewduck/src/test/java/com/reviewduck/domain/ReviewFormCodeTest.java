@@ -0,0 +1,50 @@
+package com.reviewduck.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ReviewFormCodeTest {
+
+    @Test
+    @DisplayName("번호로 만든 코드는 다시 같은 번호로 되돌아간다.")
+    void decodeEncodedId() {
+        LongStream.concat(LongStream.rangeClosed(1, 10_000), LongStream.of((1L << 45) - 1))
+            .forEach(id -> assertThat(ReviewFormCode.decode(ReviewFormCode.encode(id))).contains(id));
+    }
+
+    @Test
+    @DisplayName("이웃한 번호도 서로 다른 9자리 코드가 된다.")
+    void encodeUniqueCodes() {
+        // when
+        Set<String> codes = LongStream.rangeClosed(1, 10_000)
+            .mapToObj(ReviewFormCode::encode)
+            .collect(Collectors.toUnmodifiableSet());
+
+        // then
+        assertThat(codes).hasSize(10_000)
+            .allMatch(code -> code.length() == ReviewFormCode.LENGTH);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "ABCD1234", "ABCD12345X", "ABCDE123I", "abcde1234"})
+    @DisplayName("9자리 base-32 코드가 아니면 번호로 되돌리지 않는다.")
+    void decodeInvalidCode(String code) {
+        assertThat(ReviewFormCode.decode(code)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("코드로 바꿀 수 있는 범위를 벗어난 번호는 코드로 만들 수 없다.")
+    void encodeOutOfRangeId() {
+        assertThatThrownBy(() -> ReviewFormCode.encode(1L << 45))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("회고 폼 코드로 바꿀 수 없는 번호입니다.");
+    }
+}
@@ -0,0 +1,64 @@
+package com.reviewduck.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reviewduck.exception.ReviewException;
+
+public class ReviewWatermarkTest {
+
+    @Test
+    @DisplayName("다음 기준점은 늦게 커밋되는 변경을 놓치지 않도록 현재 시각보다 앞선다.")
+    void next() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        ReviewWatermark watermark = ReviewWatermark.from(0);
+
+        // when
+        ReviewWatermark next = watermark.next(now);
+
+        // then
+        assertAll(
+            () -> assertThat(next.getTime()).isBefore(now),
+            () -> assertThat(next.getTime()).isAfter(now.minusMinutes(1))
+        );
+    }
+
+    @Test
+    @DisplayName("다음 기준점은 이전 기준점보다 뒤로 가지 않는다.")
+    void nextNotBeforeCurrent() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        ReviewWatermark watermark = ReviewWatermark.from(System.currentTimeMillis());
+
+        // when, then
+        assertThat(watermark.next(now)).isEqualTo(watermark);
+    }
+
+    @Test
+    @DisplayName("삭제 기록 보존 기간보다 오래된 기준점은 만료되었다.")
+    void isExpired() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        // when, then
+        assertAll(
+            () -> assertThat(ReviewWatermark.from(0).isExpired(now)).isTrue(),
+            () -> assertThat(ReviewWatermark.from(System.currentTimeMillis()).isExpired(now)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("음수 기준점은 사용할 수 없다.")
+    void fromNegative() {
+        // when, then
+        assertThatThrownBy(() -> ReviewWatermark.from(-1))
+            .isInstanceOf(ReviewException.class)
+            .hasMessageContaining("회고 동기화 기준점이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,110 @@
+package com.reviewduck.feed;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class ReviewFeedSubscriberTest {
+
+    private static final int BUFFER_SIZE = 2;
+
+    // 전송 스레드가 밀린 상황을 흉내 내려고 작업을 실행하지 않고 모아만 둔다.
+    private final List<Runnable> scheduledDrains = new ArrayList<>();
+    private final ReviewFeedSubscriber subscriber =
+        new ReviewFeedSubscriber("CODE", new SseEmitter(), scheduledDrains::add, BUFFER_SIZE);
+
+    @Test
+    @DisplayName("보내지 못한 이벤트가 버퍼를 채우면 더 받지 않는다.")
+    void rejectWhenBufferIsFull() {
+        // when
+        boolean first = subscriber.offer(SseEmitter.event().comment("first"));
+        boolean second = subscriber.offer(SseEmitter.event().comment("second"));
+        boolean third = subscriber.offer(SseEmitter.event().comment("third"));
+
+        // then
+        assertAll(
+            () -> assertThat(first).isTrue(),
+            () -> assertThat(second).isTrue(),
+            () -> assertThat(third).isFalse(),
+            () -> assertThat(scheduledDrains).hasSize(1)
+        );
+    }
+
+    @Test
+    @DisplayName("이벤트를 보내면 버퍼가 비어 다시 받을 수 있다.")
+    void acceptAfterDrain() {
+        // given
+        subscriber.offer(SseEmitter.event().comment("first"));
+        subscriber.offer(SseEmitter.event().comment("second"));
+
+        // when
+        scheduledDrains.remove(0).run();
+
+        // then
+        assertThat(subscriber.offer(SseEmitter.event().comment("third"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("닫힌 구독자는 이벤트를 받지 않는다.")
+    void rejectAfterClose() {
+        // when
+        boolean closed = subscriber.close();
+
+        // then
+        assertAll(
+            () -> assertThat(closed).isTrue(),
+            () -> assertThat(subscriber.close()).isFalse(),
+            () -> assertThat(subscriber.offer(SseEmitter.event().comment("event"))).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("보내다 막힌 구독자는 닫고 전송 스레드를 풀로 돌려보낸다.")
+    void timeOutStalledSend() throws Exception {
+        // given
+        CountDownLatch sending = new CountDownLatch(1);
+        SseEmitter stalledEmitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                sending.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ReviewFeedSubscriber stalled = new ReviewFeedSubscriber("CODE", stalledEmitter, executor, BUFFER_SIZE);
+        stalled.offer(SseEmitter.event().comment("event"));
+        sending.await(1, TimeUnit.SECONDS);
+
+        try {
+            // when
+            boolean timedOut = stalled.isSendTimedOut(0);
+            boolean closed = stalled.timeOut();
+
+            // then
+            assertAll(
+                () -> assertThat(timedOut).isTrue(),
+                () -> assertThat(closed).isTrue(),
+                () -> assertThat(executor.submit(() -> true).get(1, TimeUnit.SECONDS)).isTrue(),
+                () -> assertThat(stalled.isSendTimedOut(0)).isFalse(),
+                () -> assertThat(stalled.offer(SseEmitter.event().comment("event"))).isFalse()
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.reviewduck.feed;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.service.ReviewChangedEvent;
+import com.reviewduck.service.ReviewFormDeletedEvent;
+
+class ReviewFeedTest {
+
+    private final ReviewFeed reviewFeed = new ReviewFeed(new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        reviewFeed.closeAll();
+    }
+
+    @Test
+    @DisplayName("구독자가 있는 회고 폼의 변경만 이벤트로 보낸다.")
+    void publishToSubscribedForm() {
+        // given
+        reviewFeed.subscribe("CODE");
+
+        // when
+        reviewFeed.onReviewChanged(ReviewChangedEvent.deleted("CODE", 1L));
+        reviewFeed.onReviewChanged(ReviewChangedEvent.deleted("OTHER", 2L));
+
+        // then
+        assertAll(
+            () -> assertThat(reviewFeed.getSubscriberCount()).isEqualTo(1),
+            () -> assertThat(reviewFeed.getSubscribedFormCount()).isEqualTo(1),
+            () -> assertThat(reviewFeed.getPublishedCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼이 삭제되면 그 회고 폼의 구독을 모두 끝낸다.")
+    void closeDeletedForm() {
+        // given
+        reviewFeed.subscribe("CODE");
+        reviewFeed.subscribe("CODE");
+        reviewFeed.subscribe("OTHER");
+
+        // when
+        reviewFeed.onReviewFormDeleted(new ReviewFormDeletedEvent("CODE"));
+
+        // then
+        assertAll(
+            () -> assertThat(reviewFeed.getSubscriberCount()).isEqualTo(1),
+            () -> assertThat(reviewFeed.getSubscribedFormCount()).isEqualTo(1)
+        );
+    }
+}
@@ -10,9 +10,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormCode;
 import com.reviewduck.domain.ReviewFormQuestion;
+import com.reviewduck.dto.projection.ReviewFormSummary;
 
 @DataJpaTest
 public class ReviewFormRepositoryTest {
@@ -20,6 +23,9 @@ public class ReviewFormRepositoryTest {
     @Autowired
     private ReviewFormRepository reviewFormRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     @Test
     @DisplayName("리뷰 폼을 저장한다.")
     void saveReviewForm() {
@@ -42,11 +48,65 @@ public class ReviewFormRepositoryTest {
         // then
         assertAll(
             () -> assertThat(savedReviewForm.getId()).isNotNull(),
-            () -> assertThat(savedReviewForm.getCode().length()).isEqualTo(8),
+            () -> assertThat(savedReviewForm.getCode().length()).isEqualTo(9),
             () -> assertThat(savedReviewForm.getReviewFormQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "reviewForm")
                 .isEqualTo(reviewFormQuestions)
         );
     }
+
+    @Test
+    @DisplayName("코드를 번호로 되돌려 리뷰 폼을 찾는다.")
+    void findByCode() {
+        // given
+        ReviewForm savedReviewForm = reviewFormRepository.save(new ReviewForm("title", List.of("question1")));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        ReviewForm foundReviewForm = reviewFormRepository.findByCode(savedReviewForm.getCode()).orElseThrow();
+
+        // then
+        assertAll(
+            () -> assertThat(foundReviewForm.getId()).isEqualTo(savedReviewForm.getId()),
+            () -> assertThat(ReviewFormCode.decode(savedReviewForm.getCode())).contains(savedReviewForm.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("이전 방식의 8자리 코드로도 리뷰 폼을 찾는다.")
+    void findByLegacyCode() {
+        // given
+        testEntityManager.getEntityManager()
+            .createNativeQuery("insert into review_form (id, code, review_title, version) "
+                + "values (999999, 'ABCD1234', 'legacy title', 1)")
+            .executeUpdate();
+
+        // when
+        ReviewForm foundReviewForm = reviewFormRepository.findByCode("ABCD1234").orElseThrow();
+        ReviewFormSummary foundSummary = reviewFormRepository.findSummaryByCode("ABCD1234").orElseThrow();
+
+        // then
+        assertAll(
+            () -> assertThat(foundReviewForm.getReviewTitle()).isEqualTo("legacy title"),
+            () -> assertThat(foundSummary.getId()).isEqualTo(999999L)
+        );
+    }
+
+    @Test
+    @DisplayName("번호는 맞지만 저장된 코드와 다른 코드로는 리뷰 폼을 찾을 수 없다.")
+    void findByCodeOfOtherReviewForm() {
+        // given
+        testEntityManager.getEntityManager()
+            .createNativeQuery("insert into review_form (id, code, review_title, version) "
+                + "values (999999, 'ABCD1234', 'legacy title', 1)")
+            .executeUpdate();
+
+        // when, then
+        assertAll(
+            () -> assertThat(reviewFormRepository.findByCode(ReviewFormCode.encode(999999L))).isEmpty(),
+            () -> assertThat(reviewFormRepository.findSummaryByCode(ReviewFormCode.encode(999999L))).isEmpty()
+        );
+    }
 }
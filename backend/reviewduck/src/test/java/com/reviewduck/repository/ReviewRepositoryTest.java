@@ -4,17 +4,24 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
+import javax.persistence.EntityManager;
+
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import com.reviewduck.HibernateStatistics;
 import com.reviewduck.domain.Answer;
 import com.reviewduck.domain.QuestionAnswer;
 import com.reviewduck.domain.Review;
 import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
 
 @DataJpaTest
 public class ReviewRepositoryTest {
@@ -25,6 +32,9 @@ public class ReviewRepositoryTest {
     @Autowired
     private ReviewFormRepository reviewFormRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private ReviewForm savedReviewForm;
     private Review review;
 
@@ -56,18 +66,42 @@ public class ReviewRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 회고 폼을 기반으로 작성된 회고를 모두 조회한다.")
-    void findReviewsBySpecificReviewForm() {
+    @DisplayName("특정 회고 폼의 회고와 답변을 조회하는 쿼리 수는 회고 수와 무관하다.")
+    void findReviewsWithAnswersInConstantStatements() {
+        // given
+        saveReviews(2);
+        long statementsForFewReviews = countStatementsToFindReviewsWithAnswers();
+
+        saveReviews(20);
+        long statementsForManyReviews = countStatementsToFindReviewsWithAnswers();
+
+        // then
+        assertAll(
+            () -> assertThat(statementsForFewReviews).isEqualTo(2),
+            () -> assertThat(statementsForManyReviews).isEqualTo(statementsForFewReviews)
+        );
+    }
+
+    @Test
+    @DisplayName("특정 회고 폼의 회고와 답변을 엔티티로 만들지 않고 조회한다.")
+    void findReviewSummariesBySpecificReviewForm() {
         // given
         Review savedReview = reviewRepository.save(review);
+        entityManager.flush();
+        entityManager.clear();
 
         // when
-        List<Review> reviews = reviewRepository.findByReviewForm(savedReviewForm);
+        List<ReviewSummary> reviews = reviewRepository.findSummariesByReviewFormId(savedReviewForm.getId());
+        List<AnswerSummary> answers = reviewRepository.findAnswerSummariesByReviewFormId(savedReviewForm.getId());
 
         // then
         assertAll(
-            () -> assertThat(reviews).hasSize(1),
-            () -> assertThat(reviews.get(0).getNickname()).isEqualTo(savedReview.getNickname())
+            () -> assertThat(reviews).extracting("id").containsExactly(savedReview.getId()),
+            () -> assertThat(answers).extracting("reviewId", "questionValue", "answerValue")
+                .containsExactly(
+                    tuple(savedReview.getId(), "question1", "answer1"),
+                    tuple(savedReview.getId(), "question2", "answer2")
+                )
         );
     }
 
@@ -83,4 +117,31 @@ public class ReviewRepositoryTest {
         // then
         assertThat(reviewRepository.findById(savedReview.getId()).isEmpty()).isTrue();
     }
+
+    private void saveReviews(int count) {
+        IntStream.range(0, count)
+            .mapToObj(index -> Review.of("nickname" + index, savedReviewForm,
+                List.of(
+                    new QuestionAnswer(savedReviewForm.getReviewFormQuestions().get(0), new Answer("answer1")),
+                    new QuestionAnswer(savedReviewForm.getReviewFormQuestions().get(1), new Answer("answer2"))
+                )))
+            .forEach(reviewRepository::save);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatementsToFindReviewsWithAnswers() {
+        Statistics statistics = HibernateStatistics.record(entityManager, () -> {
+            List<ReviewSummary> reviews = reviewRepository.findSummariesByReviewFormId(savedReviewForm.getId());
+            List<AnswerSummary> answers = reviewRepository.findAnswerSummariesByReviewFormId(savedReviewForm.getId());
+
+            assertAll(
+                () -> assertThat(reviews).isNotEmpty(),
+                () -> assertThat(answers).hasSize(reviews.size() * 2)
+            );
+        });
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        return statistics.getPrepareStatementCount();
+    }
 }
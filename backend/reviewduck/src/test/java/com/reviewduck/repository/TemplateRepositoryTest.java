@@ -38,7 +38,7 @@ public class TemplateRepositoryTest {
             () -> assertThat(savedTemplate.getId()).isNotNull(),
             () -> assertThat(savedTemplate.getQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "template")
                 .isEqualTo(reviewFormQuestions)
         );
     }
@@ -62,7 +62,7 @@ public class TemplateRepositoryTest {
             () -> assertThat(foundTemplate.getId()).isNotNull(),
             () -> assertThat(foundTemplate.getQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "template")
                 .isEqualTo(reviewFormQuestions)
         );
     }
@@ -0,0 +1,173 @@
+package com.reviewduck.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reviewduck.domain.Review;
+import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.dto.request.AnswerRequest;
+import com.reviewduck.dto.request.QuestionRequest;
+import com.reviewduck.dto.request.ReviewFormCreateRequest;
+import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.exception.NotFoundException;
+import com.reviewduck.exception.ServiceUnavailableException;
+
+// 쓰기 스레드가 따로 커밋하므로 테스트 트랜잭션으로 감싸지 않는다.
+@SpringBootTest
+@Sql("classpath:truncate.sql")
+public class GroupCommitReviewWriterTest {
+
+    @Autowired
+    private GroupCommitReviewWriter groupCommitReviewWriter;
+    @Autowired
+    private ReviewFormService reviewFormService;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+    private String code;
+    private Long questionId;
+
+    @BeforeEach
+    void setUp() {
+        ReviewForm reviewForm = reviewFormService.save(
+            new ReviewFormCreateRequest("title", List.of(new QuestionRequest("question1"))));
+        code = reviewForm.getCode();
+        questionId = reviewForm.getReviewFormQuestions().get(0).getId();
+    }
+
+    @Test
+    @DisplayName("한꺼번에 들어온 회고 작성 요청을 모아서 저장한다.")
+    void commitInBatches() {
+        // given
+        int count = 20;
+        long batchCount = groupCommitReviewWriter.getBatchCount();
+
+        // when
+        List<CompletableFuture<Long>> results = IntStream.range(0, count)
+            .mapToObj(index -> groupCommitReviewWriter.submit(code, createRequest("닉네임" + index, questionId)))
+            .collect(Collectors.toUnmodifiableList());
+        List<Long> reviewIds = results.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toUnmodifiableList());
+
+        // then
+        assertAll(
+            () -> assertThat(reviewIds).doesNotContainNull().doesNotHaveDuplicates(),
+            () -> assertThat(countReviews()).isEqualTo(count),
+            () -> assertThat(groupCommitReviewWriter.getBatchCount() - batchCount).isLessThan(count)
+        );
+    }
+
+    @Test
+    @DisplayName("잘못된 요청은 큐에 넣기 전에 거절하고 배치에는 섞지 않는다.")
+    void rejectInvalidRequestBeforeQueueing() {
+        // given
+        long fallbackCount = groupCommitReviewWriter.getFallbackCount();
+
+        // when
+        CompletableFuture<Long> valid = groupCommitReviewWriter.submit(code, createRequest("제이슨", questionId));
+
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> groupCommitReviewWriter.submit(code, createRequest("브리", 9999999L)))
+                .isInstanceOf(NotFoundException.class),
+            () -> assertThatThrownBy(() -> groupCommitReviewWriter.submit("aaaaaaaa", createRequest("브리", questionId)))
+                .isInstanceOf(NotFoundException.class),
+            () -> assertThat(valid.join()).isNotNull(),
+            () -> assertThat(countReviews()).isEqualTo(1),
+            () -> assertThat(groupCommitReviewWriter.getFallbackCount()).isEqualTo(fallbackCount)
+        );
+    }
+
+    @Test
+    @DisplayName("저장을 기다리는 요청이 가득 차면 요청을 거절한다.")
+    void rejectWhenQueueIsFull() {
+        // given
+        // 쓰기 스레드를 시작하지 않아 큐가 비워지지 않는다.
+        GroupCommitReviewWriter writer = new GroupCommitReviewWriter(reviewService, transactionManager);
+        ReviewRequest request = createRequest("제이슨", questionId);
+        while (writer.getQueueSize() < 1_000) {
+            writer.submit(code, request);
+        }
+
+        // when, then
+        assertThatThrownBy(() -> writer.submit(code, request))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .hasMessageContaining("잠시 후 다시 시도해주세요.");
+    }
+
+    @Test
+    @DisplayName("멈출 때 저장하지 못한 요청에는 실패를 알린다.")
+    void failRemainingRequestsOnStop() throws InterruptedException {
+        // given
+        // 쓰기 스레드를 시작하지 않아 큐에 요청이 남는다.
+        GroupCommitReviewWriter writer = new GroupCommitReviewWriter(reviewService, transactionManager);
+        CompletableFuture<Long> result = writer.submit(code, createRequest("제이슨", questionId));
+
+        // when
+        writer.stop();
+
+        // then
+        assertAll(
+            () -> assertThat(result).isCompletedExceptionally(),
+            () -> assertThatThrownBy(result::join).hasCauseInstanceOf(ServiceUnavailableException.class),
+            () -> assertThatThrownBy(() -> writer.submit(code, createRequest("브리", questionId)))
+                .isInstanceOf(ServiceUnavailableException.class)
+        );
+    }
+
+    @Test
+    @DisplayName("저장 중에 Error 가 나도 실패를 알리고 다음 요청을 계속 저장한다.")
+    void keepWritingAfterError() throws InterruptedException {
+        // given
+        ReviewService failingReviewService = mock(ReviewService.class);
+        Review review = mock(Review.class);
+        given(review.getId()).willReturn(1L);
+        given(failingReviewService.save(any(), any()))
+            .willThrow(new StackOverflowError())
+            .willReturn(review);
+        GroupCommitReviewWriter writer = new GroupCommitReviewWriter(failingReviewService, transactionManager);
+        writer.start();
+
+        try {
+            // when
+            CompletableFuture<Long> failed = writer.submit(code, createRequest("제이슨", questionId));
+            assertThatThrownBy(failed::join).hasCauseInstanceOf(StackOverflowError.class);
+            CompletableFuture<Long> next = writer.submit(code, createRequest("브리", questionId));
+
+            // then
+            assertThat(next.join()).isEqualTo(1L);
+        } finally {
+            writer.stop();
+        }
+    }
+
+    private ReviewRequest createRequest(String nickname, Long questionId) {
+        return new ReviewRequest(nickname, List.of(new AnswerRequest(questionId, "answer")));
+    }
+
+    private long countReviews() {
+        return entityManager.createQuery("select count(r) from Review r", Long.class)
+            .getSingleResult();
+    }
+}
@@ -0,0 +1,203 @@
+package com.reviewduck.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.reviewduck.domain.Answer;
+import com.reviewduck.domain.Review;
+import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewWatermark;
+import com.reviewduck.domain.Template;
+import com.reviewduck.dto.request.AnswerRequest;
+import com.reviewduck.dto.request.QuestionRequest;
+import com.reviewduck.dto.request.QuestionUpdateRequest;
+import com.reviewduck.dto.request.ReviewFormCreateRequest;
+import com.reviewduck.dto.request.ReviewFormUpdateRequest;
+import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.request.TemplateCreateRequest;
+import com.reviewduck.dto.request.TemplateUpdateRequest;
+import com.reviewduck.repository.AnswerRepository;
+import com.reviewduck.repository.QuestionAnswerRepository;
+import com.reviewduck.repository.QuestionRepository;
+import com.reviewduck.repository.ReviewTombstoneRepository;
+import com.reviewduck.repository.TemplateQuestionRepository;
+
+@SpringBootTest
+@Sql("classpath:truncate.sql")
+@Transactional
+public class OrphanCollectorTest {
+
+    @Autowired
+    private OrphanCollector orphanCollector;
+    @Autowired
+    private ReviewFormService reviewFormService;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private TemplateService templateService;
+    @Autowired
+    private QuestionAnswerRepository questionAnswerRepository;
+    @Autowired
+    private AnswerRepository answerRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private TemplateQuestionRepository templateQuestionRepository;
+    @Autowired
+    private ReviewTombstoneRepository reviewTombstoneRepository;
+    @Autowired
+    private EntityManager entityManager;
+    private ReviewForm savedReviewForm;
+    private Long questionId1;
+    private Long questionId2;
+
+    @BeforeEach
+    void setUp() {
+        savedReviewForm = reviewFormService.save(new ReviewFormCreateRequest("title",
+            List.of(new QuestionRequest("question1"), new QuestionRequest("question2"))));
+        questionId1 = savedReviewForm.getReviewFormQuestions().get(0).getId();
+        questionId2 = savedReviewForm.getReviewFormQuestions().get(1).getId();
+    }
+
+    @Test
+    @DisplayName("회고와 회고 폼에서 빠진 답변과 질문을 지운다.")
+    void collectDetachedAnswersAndQuestions() {
+        // given
+        Review review = saveReview();
+        reviewService.update(review.getId(),
+            new ReviewRequest("제이슨", List.of(new AnswerRequest(questionId1, "answer1"))));
+        removeSecondQuestion();
+        flushAndClear();
+
+        // when
+        Map<String, Integer> collected = orphanCollector.collect();
+
+        // then
+        assertAll(
+            () -> assertThat(collected).containsEntry("question_answer", 1)
+                .containsEntry("answer", 1)
+                .containsEntry("review_form_question", 1)
+                .containsEntry("template_question", 0),
+            () -> assertThat(questionAnswerRepository.count()).isEqualTo(1),
+            () -> assertThat(answerRepository.count()).isEqualTo(1),
+            () -> assertThat(questionRepository.findById(questionId2)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼에서 빠진 질문이라도 남은 답변이 가리키면 지우지 않는다.")
+    void keepDetachedQuestionWithAnswers() {
+        // given
+        saveReview();
+        removeSecondQuestion();
+        flushAndClear();
+
+        // when
+        Map<String, Integer> collected = orphanCollector.collect();
+
+        // then
+        assertAll(
+            () -> assertThat(collected.values()).containsOnly(0),
+            () -> assertThat(questionRepository.findById(questionId2)).isPresent()
+        );
+    }
+
+    @Test
+    @DisplayName("템플릿에서 빠진 질문을 지운다.")
+    void collectDetachedTemplateQuestions() {
+        // given
+        Template template = templateService.save(new TemplateCreateRequest("title", "description",
+            List.of(new QuestionRequest("question1"), new QuestionRequest("question2"))));
+        Long questionId = template.getQuestions().get(0).getId();
+        templateService.update(template.getId(), new TemplateUpdateRequest("title", "description",
+            List.of(new QuestionUpdateRequest(questionId, "question1"))));
+        flushAndClear();
+
+        // when
+        Map<String, Integer> collected = orphanCollector.collect();
+
+        // then
+        assertAll(
+            () -> assertThat(collected).containsEntry("template_question", 1),
+            () -> assertThat(templateQuestionRepository.findAll()).extracting("id").containsExactly(questionId),
+            () -> assertThat(orphanCollector.getCollectedCounts()).containsEntry("template_question", 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("한 청크보다 많은 고아 행은 마지막으로 훑은 번호 뒤부터 이어서 지우고, 끝에 닿으면 처음으로 돌아간다.")
+    void collectFromLastScannedId() {
+        // given
+        answerRepository.saveAll(IntStream.range(0, 600)
+            .mapToObj(index -> new Answer("answer" + index))
+            .collect(Collectors.toUnmodifiableList()));
+        entityManager.flush();
+
+        // when
+        Map<String, Integer> collected = orphanCollector.collect();
+
+        // then
+        assertAll(
+            () -> assertThat(collected).containsEntry("answer", 600),
+            () -> assertThat(answerRepository.count()).isZero(),
+            () -> assertThat(orphanCollector.getLastScannedIds().values()).containsOnly(0L)
+        );
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 회고 삭제 기록을 지운다.")
+    void collectExpiredTombstones() {
+        // given
+        Review expired = saveReview();
+        Review recent = saveReview();
+        reviewService.delete(expired.getId());
+        reviewService.delete(recent.getId());
+        entityManager.flush();
+        entityManager.createNativeQuery("update review_tombstone set deleted_at = :deletedAt where review_id = :id")
+            .setParameter("deletedAt", LocalDateTime.now().minus(ReviewWatermark.TOMBSTONE_RETENTION).minusDays(1))
+            .setParameter("id", expired.getId())
+            .executeUpdate();
+        flushAndClear();
+
+        // when
+        Map<String, Integer> collected = orphanCollector.collect();
+
+        // then
+        assertAll(
+            () -> assertThat(collected).containsEntry("review_tombstone", 1),
+            () -> assertThat(reviewTombstoneRepository.findAll()).extracting("reviewId")
+                .containsExactly(recent.getId())
+        );
+    }
+
+    private Review saveReview() {
+        return reviewService.save(savedReviewForm.getCode(), new ReviewRequest("제이슨",
+            List.of(new AnswerRequest(questionId1, "answer1"), new AnswerRequest(questionId2, "answer2"))));
+    }
+
+    private void removeSecondQuestion() {
+        reviewFormService.update(savedReviewForm.getCode(), new ReviewFormUpdateRequest("title",
+            List.of(new QuestionUpdateRequest(questionId1, "question1"))));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
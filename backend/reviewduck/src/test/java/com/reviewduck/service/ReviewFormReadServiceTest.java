@@ -0,0 +1,182 @@
+package com.reviewduck.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.reviewduck.HibernateStatistics;
+import com.reviewduck.domain.Review;
+import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.dto.request.AnswerRequest;
+import com.reviewduck.dto.request.QuestionRequest;
+import com.reviewduck.dto.request.ReviewFormCreateRequest;
+import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.response.ReviewFormWithReviewsResponse;
+import com.reviewduck.dto.response.ReviewsDeltaResponse;
+import com.reviewduck.exception.NotFoundException;
+
+@SpringBootTest
+@Sql("classpath:truncate.sql")
+@Transactional
+public class ReviewFormReadServiceTest {
+
+    private final String invalidCode = "aaaaaaaa";
+    @Autowired
+    private ReviewFormService reviewFormService;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewFormReadService reviewFormReadService;
+    @Autowired
+    private EntityManager entityManager;
+    private ReviewForm savedReviewForm;
+
+    @BeforeEach
+    void setUp() {
+        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"),
+            new QuestionRequest("question2"));
+        this.savedReviewForm = reviewFormService.save(new ReviewFormCreateRequest("title", questions));
+    }
+
+    @Test
+    @DisplayName("회고 폼의 질문들과 회고 답변들을 함께 조회한다.")
+    void findWithReviews() {
+        // given
+        saveReviews(2);
+
+        // when
+        ReviewFormWithReviewsResponse response = reviewFormReadService.findWithReviews(savedReviewForm.getCode());
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReviewTitle()).isEqualTo("title"),
+            () -> assertThat(response.getQuestions()).extracting("questionValue")
+                .containsExactly("question1", "question2"),
+            () -> assertThat(response.getReviews()).extracting("nickname")
+                .containsExactly("nickname0", "nickname1"),
+            () -> assertThat(response.getReviews().get(0).getAnswers()).extracting("answerValue")
+                .containsExactly("answer1", "answer2")
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼과 회고 답변들을 함께 조회하는 쿼리 수는 회고 수와 무관하다.")
+    void findWithReviewsInConstantStatements() {
+        // given
+        saveReviews(2);
+        long statementsForFewReviews = countStatementsToFindWithReviews();
+
+        saveReviews(20);
+        long statementsForManyReviews = countStatementsToFindWithReviews();
+
+        // then
+        assertAll(
+            () -> assertThat(statementsForFewReviews).isEqualTo(4),
+            () -> assertThat(statementsForManyReviews).isEqualTo(statementsForFewReviews)
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회고 폼과 회고 답변들을 함께 조회할 수 없다.")
+    void findWithReviewsWithInvalidCode() {
+        // when, then
+        assertThatThrownBy(() -> reviewFormReadService.findWithReviews(invalidCode))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 회고 폼입니다.");
+    }
+
+    @Test
+    @DisplayName("기준점 이후에 작성, 수정된 회고와 삭제된 회고 번호만 조회한다.")
+    void findReviewDelta() {
+        // given
+        Long questionId = savedReviewForm.getReviewFormQuestions().get(0).getId();
+        Review unchanged = reviewService.save(savedReviewForm.getCode(),
+            new ReviewRequest("unchanged", List.of(new AnswerRequest(questionId, "answer"))));
+        Review updated = reviewService.save(savedReviewForm.getCode(),
+            new ReviewRequest("updated", List.of(new AnswerRequest(questionId, "answer"))));
+        Review deleted = reviewService.save(savedReviewForm.getCode(),
+            new ReviewRequest("deleted", List.of(new AnswerRequest(questionId, "answer"))));
+        entityManager.flush();
+        moveUpdatedAtToPast(List.of(unchanged.getId(), updated.getId(), deleted.getId()));
+        long since = System.currentTimeMillis() - Duration.ofMinutes(30).toMillis();
+
+        reviewService.update(updated.getId(),
+            new ReviewRequest("updated", List.of(new AnswerRequest(questionId, "edited"))));
+        Review created = reviewService.save(savedReviewForm.getCode(),
+            new ReviewRequest("created", List.of(new AnswerRequest(questionId, "answer"))));
+        reviewService.delete(deleted.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ReviewsDeltaResponse response = reviewFormReadService.findReviewDelta(savedReviewForm.getCode(), since);
+
+        // then
+        assertAll(
+            () -> assertThat(response.isReset()).isFalse(),
+            () -> assertThat(response.getReviews()).extracting("reviewId")
+                .containsExactlyInAnyOrder(updated.getId(), created.getId()),
+            () -> assertThat(response.getReviews()).flatExtracting("answers").extracting("answerValue")
+                .containsExactlyInAnyOrder("edited", "answer"),
+            () -> assertThat(response.getDeletedReviewIds()).containsExactly(deleted.getId()),
+            () -> assertThat(response.getWatermark()).isGreaterThan(since)
+        );
+    }
+
+    @Test
+    @DisplayName("삭제 기록 보존 기간보다 오래된 기준점이면 전체 회고를 다시 보낸다.")
+    void findReviewDeltaWithExpiredWatermark() {
+        // given
+        saveReviews(2);
+
+        // when
+        ReviewsDeltaResponse response = reviewFormReadService.findReviewDelta(savedReviewForm.getCode(), 0);
+
+        // then
+        assertAll(
+            () -> assertThat(response.isReset()).isTrue(),
+            () -> assertThat(response.getReviews()).extracting("nickname")
+                .containsExactly("nickname0", "nickname1"),
+            () -> assertThat(response.getDeletedReviewIds()).isEmpty()
+        );
+    }
+
+    private void moveUpdatedAtToPast(List<Long> reviewIds) {
+        entityManager.createNativeQuery("update review set updated_at = :updatedAt where id in :ids")
+            .setParameter("updatedAt", LocalDateTime.now().minusHours(1))
+            .setParameter("ids", reviewIds)
+            .executeUpdate();
+        entityManager.clear();
+    }
+
+    private void saveReviews(int count) {
+        Long questionId1 = savedReviewForm.getReviewFormQuestions().get(0).getId();
+        Long questionId2 = savedReviewForm.getReviewFormQuestions().get(1).getId();
+
+        IntStream.range(0, count)
+            .mapToObj(index -> new ReviewRequest("nickname" + index,
+                List.of(new AnswerRequest(questionId1, "answer1"), new AnswerRequest(questionId2, "answer2"))))
+            .forEach(request -> reviewService.save(savedReviewForm.getCode(), request));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatementsToFindWithReviews() {
+        return HibernateStatistics.countStatements(entityManager,
+            () -> reviewFormReadService.findWithReviews(savedReviewForm.getCode()));
+    }
+}
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -14,16 +16,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.reviewduck.HibernateStatistics;
+import com.reviewduck.cache.ReviewFormCodeFilter;
 import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormCode;
 import com.reviewduck.domain.ReviewFormQuestion;
+import com.reviewduck.domain.ReviewFormSnapshot;
 import com.reviewduck.domain.Template;
+import com.reviewduck.dto.request.AnswerRequest;
 import com.reviewduck.dto.request.QuestionRequest;
 import com.reviewduck.dto.request.QuestionUpdateRequest;
 import com.reviewduck.dto.request.ReviewFormCreateFromTemplateRequest;
 import com.reviewduck.dto.request.ReviewFormCreateRequest;
 import com.reviewduck.dto.request.ReviewFormUpdateRequest;
+import com.reviewduck.dto.request.ReviewRequest;
 import com.reviewduck.dto.request.TemplateCreateRequest;
 import com.reviewduck.exception.NotFoundException;
+import com.reviewduck.repository.ReviewFormRepository;
 
 @SpringBootTest
 @Sql("classpath:truncate.sql")
@@ -37,6 +46,18 @@ public class ReviewFormServiceTest {
 
     @Autowired
     private TemplateService templateService;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private OrphanCollector orphanCollector;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+    @Autowired
+    private ReviewFormCodeFilter reviewFormCodeFilter;
+
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     @DisplayName("회고 폼을 생성한다.")
@@ -64,11 +85,11 @@ public class ReviewFormServiceTest {
         assertAll(
             () -> assertThat(reviewForm).isNotNull(),
             () -> assertThat(reviewForm.getId()).isNotNull(),
-            () -> assertThat(reviewForm.getCode().length()).isEqualTo(8),
+            () -> assertThat(reviewForm.getCode().length()).isEqualTo(9),
             () -> assertThat(reviewForm.getReviewTitle()).isEqualTo(reviewTitle),
             () -> assertThat(reviewForm.getReviewFormQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "reviewForm")
                 .isEqualTo(expected)
         );
     }
@@ -100,6 +121,68 @@ public class ReviewFormServiceTest {
             .hasMessageContaining("존재하지 않는 회고 폼입니다.");
     }
 
+    @Test
+    @DisplayName("저장된 적 없는 코드는 DB 를 조회하지 않고 찾을 수 없다고 판단한다.")
+    void findReviewFormByUnknownCodeWithoutStatements() {
+        // when
+        long statements = HibernateStatistics.countStatements(entityManager, () ->
+            assertThatThrownBy(() -> reviewFormService.findByCode(invalidCode))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 회고 폼입니다."));
+
+        // then
+        assertThat(statements).isZero();
+    }
+
+    @Test
+    @DisplayName("필터에 없는 새 방식 코드는 DB 에서 찾고 필터에 넣는다.")
+    void findReviewFormSavedOnOtherServer() {
+        // given
+        ReviewForm saved = reviewFormRepository.save(new ReviewForm("title", List.of("question1")));
+
+        // when
+        ReviewForm actual = reviewFormService.findByCode(saved.getCode());
+
+        // then
+        assertAll(
+            () -> assertThat(actual).isSameAs(saved),
+            () -> assertThat(reviewFormCodeFilter.mightExist(saved.getCode())).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("필터에 없고 DB 에도 없는 새 방식 코드로 조회할 수 없다.")
+    void findReviewFormByMissingNewCode() {
+        // given
+        String missingCode = ReviewFormCode.encode(1_000_000L);
+
+        // when, then
+        assertAll(
+            () -> assertThatThrownBy(() -> reviewFormService.findSummaryByCode(missingCode))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 회고 폼입니다."),
+            () -> assertThat(reviewFormCodeFilter.mightExist(missingCode)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("아직 발급되지 않은 번호의 코드는 DB 를 조회하지 않고 찾을 수 없다고 판단한다.")
+    void findReviewFormByNeverIssuedCodeWithoutStatements() {
+        // given
+        ReviewForm saved = reviewFormRepository.saveAndFlush(new ReviewForm("title", List.of("question1")));
+        reviewFormCodeFilter.refreshNextId();
+        String neverIssuedCode = ReviewFormCode.encode(saved.getId() + 1_000_000L);
+
+        // when
+        long statements = HibernateStatistics.countStatements(entityManager, () ->
+            assertThatThrownBy(() -> reviewFormService.findSummaryByCode(neverIssuedCode))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 회고 폼입니다."));
+
+        // then
+        assertThat(statements).isZero();
+    }
+
     @Test
     @DisplayName("회고 폼을 수정한다.")
     void updateReviewForm() {
@@ -130,16 +213,55 @@ public class ReviewFormServiceTest {
         assertAll(
             () -> assertThat(foundReviewForm).isNotNull(),
             () -> assertThat(foundReviewForm.getId()).isNotNull(),
-            () -> assertThat(foundReviewForm.getCode().length()).isEqualTo(8),
+            () -> assertThat(foundReviewForm.getCode().length()).isEqualTo(9),
             () -> assertThat(foundReviewForm.getReviewTitle()).isEqualTo(reviewTitle),
             () -> assertThat(foundReviewForm.getReviewFormQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "reviewForm")
                 .isEqualTo(expected)
         );
     }
 
     @Test
+    @DisplayName("회고 폼을 수정해도 이전 버전의 스냅샷은 바뀌지 않는다.")
+    void keepSnapshotOfPreviousVersion() {
+        // given
+        ReviewForm savedReviewForm = saveReviewForm();
+        Long questionId = savedReviewForm.getReviewFormQuestions().get(0).getId();
+
+        // when
+        reviewFormService.update(savedReviewForm.getCode(), new ReviewFormUpdateRequest("new title",
+            List.of(new QuestionUpdateRequest(questionId, "new question1"))));
+        entityManager.flush();
+        entityManager.clear();
+
+        ReviewFormSnapshot previous = reviewFormService.findSnapshot(savedReviewForm.getId(), 1);
+        ReviewFormSnapshot current = reviewFormService.findSnapshot(savedReviewForm.getId(), 2);
+
+        // then
+        assertAll(
+            () -> assertThat(previous.getReviewTitle()).isEqualTo("title"),
+            () -> assertThat(previous.getQuestions()).extracting("value")
+                .containsExactly("question1", "question2"),
+            () -> assertThat(current.getReviewTitle()).isEqualTo("new title"),
+            () -> assertThat(current.getQuestions()).extracting("questionId", "value")
+                .containsExactly(tuple(questionId, "new question1"))
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 버전의 스냅샷을 조회할 수 없다.")
+    void findSnapshotByInvalidVersion() {
+        // given
+        ReviewForm savedReviewForm = saveReviewForm();
+
+        // when, then
+        assertThatThrownBy(() -> reviewFormService.findSnapshot(savedReviewForm.getId(), 2))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 회고 폼 버전입니다.");
+    }
+
+        @Test
     @DisplayName("존재하지 않는 회고폼을 수정할 수 없다.")
     void updateReviewFormByInvalidCode() {
         // when
@@ -170,6 +292,50 @@ public class ReviewFormServiceTest {
 
     }
 
+    @Test
+    @DisplayName("회고 폼 수정 시 실행되는 쿼리 수는 질문 수와 무관하다.")
+    void updateReviewFormInConstantStatements() {
+        // when
+        long statementsForFewQuestions = countStatementsToUpdateReviewForm(2);
+        long statementsForManyQuestions = countStatementsToUpdateReviewForm(30);
+
+        // then
+        assertThat(statementsForManyQuestions).isEqualTo(statementsForFewQuestions);
+    }
+
+    @Test
+    @DisplayName("회고 폼 저장 시 질문은 회고 폼 번호와 함께 한 번에 저장된다.")
+    void saveReviewFormWithoutForeignKeyUpdates() {
+        // when
+        long statementsForFewQuestions = HibernateStatistics.countStatements(entityManager,
+            () -> reviewFormService.save(createRequestOf(2)));
+        long statementsForManyQuestions = HibernateStatistics.countStatements(entityManager,
+            () -> reviewFormService.save(createRequestOf(30)));
+
+        // then
+        assertAll(
+            // 회고 폼과 질문, 첫 버전의 스냅샷과 스냅샷 질문을 각각 한 번씩 저장한다.
+            () -> assertThat(statementsForFewQuestions).isEqualTo(4),
+            () -> assertThat(statementsForManyQuestions).isEqualTo(statementsForFewQuestions)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 회고 폼의 질문을 수정할 수 없다.")
+    void updateReviewFormByQuestionIdOfOtherReviewForm() {
+        // given
+        String code = saveReviewForm().getCode();
+        Long otherQuestionId = saveReviewForm().getReviewFormQuestions().get(0).getId();
+
+        // when, then
+        List<QuestionUpdateRequest> updateRequests = List.of(new QuestionUpdateRequest(otherQuestionId, "question"));
+
+        assertThatThrownBy(
+            () -> reviewFormService.update(code, new ReviewFormUpdateRequest("new title", updateRequests)))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 질문입니다.");
+    }
+
     @Test
     @DisplayName("템플릿을 기반으로 회고 폼을 생성한다.")
     void saveReviewFormFromTemplate() {
@@ -202,11 +368,11 @@ public class ReviewFormServiceTest {
         assertAll(
             () -> assertThat(savedReviewForm).isNotNull(),
             () -> assertThat(savedReviewForm.getId()).isNotNull(),
-            () -> assertThat(savedReviewForm.getCode().length()).isEqualTo(8),
+            () -> assertThat(savedReviewForm.getCode().length()).isEqualTo(9),
             () -> assertThat(savedReviewForm.getReviewTitle()).isEqualTo(reviewFormTitle),
             () -> assertThat(savedReviewForm.getReviewFormQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "reviewForm")
                 .isEqualTo(expected)
         );
     }
@@ -218,4 +384,94 @@ public class ReviewFormServiceTest {
 
         return reviewFormService.save(createRequest);
     }
+
+    private ReviewFormCreateRequest createRequestOf(int questionCount) {
+        List<QuestionRequest> createRequests = IntStream.range(0, questionCount)
+            .mapToObj(index -> new QuestionRequest("question" + index))
+            .collect(Collectors.toUnmodifiableList());
+        return new ReviewFormCreateRequest("title", createRequests);
+    }
+
+    private long countStatementsToUpdateReviewForm(int questionCount) {
+        ReviewForm reviewForm = reviewFormService.save(createRequestOf(questionCount));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<QuestionUpdateRequest> updateRequests = reviewForm.getReviewFormQuestions().stream()
+            .map(question -> new QuestionUpdateRequest(question.getId(), "new " + question.getValue()))
+            .collect(Collectors.toList());
+        updateRequests.add(0, new QuestionUpdateRequest(null, "first question"));
+        updateRequests.add(new QuestionUpdateRequest(null, "last question"));
+
+        return HibernateStatistics.countStatements(entityManager, () ->
+            reviewFormService.update(reviewForm.getCode(), new ReviewFormUpdateRequest("new title", updateRequests)));
+    }
+
+    @Test
+    @DisplayName("회고 폼을 회고, 답변, 스냅샷과 함께 삭제한다.")
+    void deleteReviewForm() {
+        // given
+        ReviewForm savedReviewForm = saveReviewForm();
+        String code = savedReviewForm.getCode();
+        List<AnswerRequest> answers = savedReviewForm.getReviewFormQuestions().stream()
+            .map(question -> new AnswerRequest(question.getId(), "answer"))
+            .collect(Collectors.toUnmodifiableList());
+        reviewService.save(code, new ReviewRequest("제이슨", answers));
+        reviewService.save(code, new ReviewRequest("브리", answers));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        reviewFormService.deleteByCode(code);
+        // 답변 연결이 지워져 고아가 된 답변은 OrphanCollector 가 지운다.
+        orphanCollector.collect();
+
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> reviewFormService.findByCode(code))
+                .isInstanceOf(NotFoundException.class),
+            () -> assertThat(countRows("Review")).isZero(),
+            () -> assertThat(countRows("QuestionAnswer")).isZero(),
+            () -> assertThat(countRows("Answer")).isZero(),
+            () -> assertThat(countRows("ReviewFormQuestion")).isZero(),
+            () -> assertThat(countRows("ReviewFormSnapshot")).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼 삭제 시 실행되는 쿼리 수는 답변 수와 무관하다.")
+    void deleteReviewFormWithConstantStatements() {
+        // given
+        ReviewForm savedReviewForm = saveReviewForm();
+        String code = savedReviewForm.getCode();
+        List<AnswerRequest> answers = savedReviewForm.getReviewFormQuestions().stream()
+            .map(question -> new AnswerRequest(question.getId(), "answer"))
+            .collect(Collectors.toUnmodifiableList());
+        reviewService.saveAll(code, IntStream.range(0, 30)
+            .mapToObj(index -> new ReviewRequest("닉네임" + index, answers))
+            .collect(Collectors.toUnmodifiableList()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        long statements = HibernateStatistics.countStatements(entityManager,
+            () -> reviewFormService.deleteByCode(code));
+
+        // then
+        assertThat(statements).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회고 폼을 삭제할 수 없다.")
+    void deleteReviewFormByInvalidCode() {
+        // when, then
+        assertThatThrownBy(() -> reviewFormService.deleteByCode("aaaaaaaa"))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 회고 폼입니다.");
+    }
+
+    private long countRows(String entityName) {
+        return entityManager.createQuery("select count(e) from " + entityName + " e", Long.class)
+            .getSingleResult();
+    }
 }
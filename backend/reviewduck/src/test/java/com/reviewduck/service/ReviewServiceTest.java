@@ -3,24 +3,41 @@ package com.reviewduck.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.reviewduck.HibernateStatistics;
 import com.reviewduck.domain.Review;
+import com.reviewduck.domain.ReviewCursor;
 import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.dto.projection.AnswerSummary;
+import com.reviewduck.dto.projection.ReviewSummary;
 import com.reviewduck.dto.request.AnswerRequest;
 import com.reviewduck.dto.request.QuestionRequest;
 import com.reviewduck.dto.request.ReviewFormCreateRequest;
+import com.reviewduck.dto.request.ReviewPatchRequest;
 import com.reviewduck.dto.request.ReviewRequest;
+import com.reviewduck.dto.response.ReviewCreateResultResponse;
 import com.reviewduck.exception.NotFoundException;
+import com.reviewduck.exception.ReviewException;
 
 @SpringBootTest
 @Sql("classpath:truncate.sql")
@@ -32,6 +49,8 @@ public class ReviewServiceTest {
     private ReviewFormService reviewFormService;
     @Autowired
     private ReviewService reviewService;
+    @Autowired
+    private EntityManager entityManager;
     private ReviewForm savedReviewForm;
     private Long questionId1;
     private Long questionId2;
@@ -68,6 +87,29 @@ public class ReviewServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("리뷰 저장 시 답변은 리뷰 번호와 함께 한 번에 저장된다.")
+    void saveReviewWithoutForeignKeyUpdates() {
+        // given
+        ReviewForm manyQuestionsReviewForm = reviewFormService.save(new ReviewFormCreateRequest("title",
+            IntStream.range(0, 30)
+                .mapToObj(index -> new QuestionRequest("question" + index))
+                .collect(Collectors.toUnmodifiableList())));
+        entityManager.flush();
+
+        // when
+        long statementsForFewAnswers = HibernateStatistics.countStatements(entityManager,
+            () -> reviewService.save(savedReviewForm.getCode(), createRequestFor(savedReviewForm)));
+        long statementsForManyAnswers = HibernateStatistics.countStatements(entityManager,
+            () -> reviewService.save(manyQuestionsReviewForm.getCode(), createRequestFor(manyQuestionsReviewForm)));
+
+        // then
+        assertAll(
+            () -> assertThat(statementsForFewAnswers).isEqualTo(3),
+            () -> assertThat(statementsForManyAnswers).isEqualTo(statementsForFewAnswers)
+        );
+    }
+
     @Test
     @DisplayName("유효하지 않은 입장 코드로 리뷰를 저장할 수 없다.")
     void saveReviewWithInvalidCode() {
@@ -95,6 +137,27 @@ public class ReviewServiceTest {
             .hasMessageContaining("존재하지 않는 질문입니다.");
     }
 
+    @Test
+    @DisplayName("다른 회고 폼의 질문에 대해 회고를 작성할 수 없다.")
+    void saveReviewWithQuestionOfOtherReviewForm() {
+        // given
+        ReviewForm otherReviewForm = reviewFormService.save(
+            new ReviewFormCreateRequest("other title", List.of(new QuestionRequest("other question"))));
+        Long otherQuestionId = otherReviewForm.getReviewFormQuestions().get(0).getId();
+
+        ReviewRequest reviewCreateRequest = new ReviewRequest("제이슨",
+            List.of(new AnswerRequest(questionId1, "answer1"),
+                new AnswerRequest(otherQuestionId, "answer2"),
+                new AnswerRequest(123445L, "answer3")));
+
+        // when, then
+        assertThatThrownBy(() -> reviewService.save(savedReviewForm.getCode(), reviewCreateRequest))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 질문입니다.")
+            .hasMessageContaining(String.valueOf(otherQuestionId))
+            .hasMessageContaining("123445");
+    }
+
     @Test
     @DisplayName("특정 회고 폼을 기반으로 작성된 회고를 모두 조회한다.")
     void findReviewsBySpecificReviewForm() {
@@ -104,15 +167,80 @@ public class ReviewServiceTest {
         Review savedReview = reviewService.save(savedReviewForm.getCode(), reviewCreateRequest);
 
         // when
-        List<Review> reviews = reviewService.findAllByCode(savedReviewForm.getCode());
+        List<ReviewSummary> reviews = reviewService.findSummariesByReviewFormId(savedReviewForm.getId());
+        Map<Long, List<AnswerSummary>> answers = reviewService.findAnswerSummariesByReviewFormId(
+            savedReviewForm.getId());
 
         // then
         assertAll(
             () -> assertThat(reviews).hasSize(1),
-            () -> assertThat(reviews.get(0).getNickname()).isEqualTo(savedReview.getNickname())
+            () -> assertThat(reviews.get(0).getNickname()).isEqualTo(savedReview.getNickname()),
+            () -> assertThat(answers.get(savedReview.getId())).extracting("answerValue")
+                .containsExactly("answer1", "answer2")
+        );
+    }
+
+    @Test
+    @DisplayName("특정 회고 폼을 기반으로 작성된 회고를 커서 기반으로 나누어 조회한다.")
+    void findReviewsPageBySpecificReviewForm() {
+        // given
+        Review firstReview = saveReview("제이슨");
+        Review secondReview = saveReview("브리");
+        Review thirdReview = saveReview("그린론");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Slice<ReviewSummary> firstPage = reviewService.findSummaryPageByReviewFormId(savedReviewForm.getId(), null, 2);
+        ReviewSummary lastOfFirstPage = firstPage.getContent().get(1);
+        String cursor = ReviewCursor.of(lastOfFirstPage.getCreatedAt(), lastOfFirstPage.getId()).encode();
+        Slice<ReviewSummary> secondPage = reviewService.findSummaryPageByReviewFormId(savedReviewForm.getId(), cursor,
+            2);
+        Map<Long, List<AnswerSummary>> answers = reviewService.findAnswerSummaries(firstPage.getContent());
+
+        // then
+        assertAll(
+            () -> assertThat(firstPage.getContent()).extracting("id")
+                .containsExactly(firstReview.getId(), secondReview.getId()),
+            () -> assertThat(firstPage.hasNext()).isTrue(),
+            () -> assertThat(answers).containsOnlyKeys(firstReview.getId(), secondReview.getId()),
+            () -> assertThat(ReviewCursor.decode(cursor).getId()).isEqualTo(secondReview.getId()),
+            () -> assertThat(secondPage.getContent()).extracting("id")
+                .containsExactly(thirdReview.getId()),
+            () -> assertThat(secondPage.hasNext()).isFalse()
         );
     }
 
+    @Test
+    @DisplayName("특정 회고 폼을 기반으로 작성된 회고를 순서대로 하나씩 흘려보낸다.")
+    void streamReviewsBySpecificReviewForm() {
+        // given
+        Review firstReview = saveReview("제이슨");
+        Review secondReview = saveReview("브리");
+
+        // when
+        List<String> answerValues = new ArrayList<>();
+        reviewService.streamAllByReviewFormId(savedReviewForm.getId(),
+            review -> answerValues.add(review.getNickname() + ":" + review.getQuestionAnswers().get(0)
+                .getAnswer().getValue()));
+
+        // then
+        assertThat(answerValues).containsExactly(
+            firstReview.getNickname() + ":answer1",
+            secondReview.getNickname() + ":answer1"
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 101})
+    @DisplayName("한 번에 조회할 수 있는 회고 수를 벗어나면 조회할 수 없다.")
+    void findReviewsPageWithInvalidLimit(int limit) {
+        // when, then
+        assertThatThrownBy(() -> reviewService.findSummaryPageByReviewFormId(savedReviewForm.getId(), null, limit))
+            .isInstanceOf(ReviewException.class)
+            .hasMessageContaining("회고 목록은 한 번에 1개 이상 100개 이하로 조회할 수 있습니다.");
+    }
+
     @Test
     @DisplayName("리뷰를 수정한다.")
     void editReview() {
@@ -135,6 +263,81 @@ public class ReviewServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("리뷰를 수정할 때 값이 바뀐 답변만 수정하고 새 답변을 만들지 않는다.")
+    void editReviewOnlyChangedAnswers() {
+        // given
+        Review savedReview = saveReview("제이슨");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ReviewRequest editRequest = new ReviewRequest("제이슨",
+            List.of(new AnswerRequest(questionId1, "answer1"), new AnswerRequest(questionId2, "editedAnswer2")));
+        Statistics statistics = HibernateStatistics.record(entityManager,
+            () -> reviewService.update(savedReview.getId(), editRequest));
+
+        // then
+        assertAll(
+            () -> assertThat(statistics.getEntityInsertCount()).isZero(),
+            () -> assertThat(statistics.getEntityUpdateCount()).isEqualTo(2),
+            () -> assertThat(findAnswerValues(savedReview.getId())).containsExactly("answer1", "editedAnswer2")
+        );
+    }
+
+    @Test
+    @DisplayName("답변이 바뀌지 않은 리뷰 수정은 아무것도 쓰지 않는다.")
+    void editReviewWithoutChanges() {
+        // given
+        Review savedReview = saveReview("제이슨");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ReviewRequest editRequest = new ReviewRequest("제이슨",
+            List.of(new AnswerRequest(questionId1, "answer1"), new AnswerRequest(questionId2, "answer2")));
+        Statistics statistics = HibernateStatistics.record(entityManager,
+            () -> reviewService.update(savedReview.getId(), editRequest));
+
+        // then
+        assertAll(
+            () -> assertThat(statistics.getEntityInsertCount()).isZero(),
+            () -> assertThat(statistics.getEntityUpdateCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("리뷰의 일부 답변만 수정하면 나머지 답변은 그대로 남는다.")
+    void patchReview() {
+        // given
+        Review savedReview = saveReview("제이슨");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ReviewPatchRequest patchRequest = new ReviewPatchRequest(
+            List.of(new AnswerRequest(questionId1, "editedAnswer1")));
+        Statistics statistics = HibernateStatistics.record(entityManager,
+            () -> reviewService.patch(savedReview.getId(), patchRequest));
+
+        // then
+        assertAll(
+            () -> assertThat(statistics.getEntityInsertCount()).isZero(),
+            () -> assertThat(statistics.getEntityUpdateCount()).isEqualTo(2),
+            () -> assertThat(findAnswerValues(savedReview.getId())).containsExactly("editedAnswer1", "answer2")
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 리뷰의 답변을 일부 수정할 수 없다.")
+    void patchInvalidReview() {
+        // when, then
+        assertThatThrownBy(() -> reviewService.patch(9999999L,
+            new ReviewPatchRequest(List.of(new AnswerRequest(questionId1, "answer1")))))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 회고입니다.");
+    }
+
     @Test
     @DisplayName("리뷰를 삭제한다.")
     void deleteReview() {
@@ -147,6 +350,98 @@ public class ReviewServiceTest {
         reviewService.delete(savedReview.getId());
 
         // then
-        assertThat(reviewService.findAllByCode(savedReviewForm.getCode())).hasSize(0);
+        assertAll(
+            () -> assertThat(reviewService.findSummariesByReviewFormId(savedReviewForm.getId())).hasSize(0),
+            () -> assertThat(reviewService.findIdsDeletedAfter(savedReviewForm.getId(),
+                LocalDateTime.now().minusMinutes(1))).containsExactly(savedReview.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("리뷰 여러 개를 한 번에 저장하고, 실패한 리뷰는 결과에만 남긴다.")
+    void saveAllReviews() {
+        // given
+        List<ReviewRequest> requests = List.of(
+            new ReviewRequest("제이슨", List.of(new AnswerRequest(questionId1, "answer1"))),
+            new ReviewRequest("브리", List.of(new AnswerRequest(9999999L, "answer1"))),
+            new ReviewRequest(" ", List.of(new AnswerRequest(questionId1, "answer1"))),
+            new ReviewRequest("엘리", List.of(new AnswerRequest(questionId2, "answer2"))));
+
+        // when
+        List<ReviewCreateResultResponse> results = reviewService.saveAll(savedReviewForm.getCode(), requests);
+
+        // then
+        assertAll(
+            () -> assertThat(results).extracting("status").containsExactly(201, 404, 400, 201),
+            () -> assertThat(results.get(0).getReviewId()).isNotNull(),
+            () -> assertThat(results.get(1).getMessage()).contains("존재하지 않는 질문입니다."),
+            () -> assertThat(results.get(2).getMessage()).isEqualTo("닉네임은 비어있을 수 없습니다."),
+            () -> assertThat(reviewService.findSummariesByReviewFormId(savedReviewForm.getId()))
+                .extracting("nickname")
+                .containsExactlyInAnyOrder("제이슨", "엘리")
+        );
+    }
+
+    @Test
+    @DisplayName("한 번에 저장할 수 있는 리뷰 수를 넘으면 저장할 수 없다.")
+    void saveTooManyReviews() {
+        // given
+        List<ReviewRequest> requests = IntStream.range(0, 501)
+            .mapToObj(index -> new ReviewRequest("닉네임" + index, List.of()))
+            .collect(Collectors.toUnmodifiableList());
+
+        // when, then
+        assertThatThrownBy(() -> reviewService.saveAll(savedReviewForm.getCode(), requests))
+            .isInstanceOf(ReviewException.class)
+            .hasMessageContaining("500개 이하입니다.");
+    }
+
+    @Test
+    @DisplayName("리뷰 삭제 쿼리 수는 답변 수와 무관하다.")
+    void deleteReviewInConstantStatements() {
+        // given
+        Review savedReview = saveReview("제이슨");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        long statementCount = HibernateStatistics.countStatements(entityManager,
+            () -> reviewService.delete(savedReview.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(statementCount).isEqualTo(6),
+            () -> assertThat(reviewService.findAnswerSummariesByReviewFormId(savedReviewForm.getId())).isEmpty(),
+            () -> assertThat(entityManager.createQuery("select count(a) from Answer a", Long.class)
+                .getSingleResult()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 리뷰를 삭제할 수 없다.")
+    void deleteInvalidReview() {
+        // when, then
+        assertThatThrownBy(() -> reviewService.delete(9999999L))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 회고입니다.");
+    }
+
+    private Review saveReview(String nickname) {
+        ReviewRequest reviewCreateRequest = new ReviewRequest(nickname,
+            List.of(new AnswerRequest(questionId1, "answer1"), new AnswerRequest(questionId2, "answer2")));
+        return reviewService.save(savedReviewForm.getCode(), reviewCreateRequest);
+    }
+
+    private ReviewRequest createRequestFor(ReviewForm reviewForm) {
+        List<AnswerRequest> answerRequests = reviewForm.getReviewFormQuestions().stream()
+            .map(question -> new AnswerRequest(question.getId(), "answer"))
+            .collect(Collectors.toUnmodifiableList());
+        return new ReviewRequest("제이슨", answerRequests);
+    }
+
+    private List<String> findAnswerValues(Long reviewId) {
+        return reviewService.findAnswerSummariesByReviewFormId(savedReviewForm.getId()).get(reviewId).stream()
+            .map(AnswerSummary::getAnswerValue)
+            .collect(Collectors.toUnmodifiableList());
     }
 }
@@ -0,0 +1,130 @@
+package com.reviewduck.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.domain.ReviewForm;
+import com.reviewduck.domain.ReviewFormQuestion;
+import com.reviewduck.domain.Template;
+import com.reviewduck.domain.TemplateQuestion;
+import com.reviewduck.dto.request.QuestionRequest;
+import com.reviewduck.dto.request.QuestionUpdateRequest;
+import com.reviewduck.dto.request.ReviewFormCreateRequest;
+import com.reviewduck.dto.request.ReviewFormUpdateRequest;
+import com.reviewduck.dto.request.TemplateCreateRequest;
+import com.reviewduck.dto.request.TemplateUpdateRequest;
+
+@SpringBootTest
+@Sql("classpath:truncate.sql")
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private ReviewFormService reviewFormService;
+    @Autowired
+    private TemplateService templateService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("코드로 다시 조회하는 회고 폼과 질문은 쿼리 없이 캐시에서 가져온다.")
+    void findReviewFormFromCache() {
+        // given
+        String code = saveReviewForm("title", List.of("question1", "question2")).getCode();
+        findReviewFormQuestionValues(code);
+        statistics.clear();
+
+        // when
+        List<String> questionValues = findReviewFormQuestionValues(code);
+
+        // then
+        assertAll(
+            () -> assertThat(questionValues).containsExactly("question1", "question2"),
+            () -> assertThat(statistics.getPrepareStatementCount()).isZero(),
+            () -> assertThat(statistics.getSecondLevelCacheHitCount()).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼을 수정하면 캐시된 회고 폼과 질문 목록이 갱신된다.")
+    void updateCachedReviewForm() {
+        // given
+        ReviewForm reviewForm = saveReviewForm("title", List.of("question1", "question2"));
+        String code = reviewForm.getCode();
+        Long questionId = reviewForm.getReviewFormQuestions().get(0).getId();
+        findReviewFormQuestionValues(code);
+
+        // when
+        reviewFormService.update(code, new ReviewFormUpdateRequest("new title",
+            List.of(new QuestionUpdateRequest(questionId, "new question1"),
+                new QuestionUpdateRequest(null, "question3"))));
+
+        // then
+        String reviewTitle = transactionTemplate.execute(status -> reviewFormService.findByCode(code).getReviewTitle());
+        assertAll(
+            () -> assertThat(findReviewFormQuestionValues(code)).containsExactly("new question1", "question3"),
+            () -> assertThat(reviewTitle).isEqualTo("new title")
+        );
+    }
+
+    @Test
+    @DisplayName("템플릿을 수정하면 캐시된 템플릿과 질문 목록이 갱신된다.")
+    void updateCachedTemplate() {
+        // given
+        Template template = templateService.save(new TemplateCreateRequest("title", "description",
+            List.of(new QuestionRequest("question1"), new QuestionRequest("question2"))));
+        Long questionId = template.getQuestions().get(1).getId();
+        findTemplateQuestionValues(template.getId());
+
+        // when
+        templateService.update(template.getId(), new TemplateUpdateRequest("new title", "new description",
+            List.of(new QuestionUpdateRequest(questionId, "new question2"))));
+
+        // then
+        assertThat(findTemplateQuestionValues(template.getId())).containsExactly("new question2");
+    }
+
+    private ReviewForm saveReviewForm(String reviewTitle, List<String> questionValues) {
+        List<QuestionRequest> questions = questionValues.stream()
+            .map(QuestionRequest::new)
+            .collect(Collectors.toUnmodifiableList());
+        return reviewFormService.save(new ReviewFormCreateRequest(reviewTitle, questions));
+    }
+
+    private List<String> findReviewFormQuestionValues(String code) {
+        return transactionTemplate.execute(status -> reviewFormService.findByCode(code)
+            .getReviewFormQuestions().stream()
+            .map(ReviewFormQuestion::getValue)
+            .collect(Collectors.toUnmodifiableList()));
+    }
+
+    private List<String> findTemplateQuestionValues(Long templateId) {
+        return transactionTemplate.execute(status -> templateService.findById(templateId)
+            .getQuestions().stream()
+            .map(TemplateQuestion::getValue)
+            .collect(Collectors.toUnmodifiableList()));
+    }
+}
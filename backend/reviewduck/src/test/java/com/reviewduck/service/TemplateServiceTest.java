@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -14,8 +17,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.reviewduck.HibernateStatistics;
 import com.reviewduck.domain.ReviewFormQuestion;
 import com.reviewduck.domain.Template;
+import com.reviewduck.dto.projection.TemplateQuestionSummary;
+import com.reviewduck.dto.projection.TemplateSummary;
 import com.reviewduck.dto.request.QuestionRequest;
 import com.reviewduck.dto.request.QuestionUpdateRequest;
 import com.reviewduck.dto.request.TemplateCreateRequest;
@@ -30,6 +36,9 @@ public class TemplateServiceTest {
     @Autowired
     private TemplateService templateService;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("회고 폼을 생성한다.")
     void createReviewForm() {
@@ -53,7 +62,7 @@ public class TemplateServiceTest {
             () -> assertThat(template.getTemplateDescription()).isEqualTo(templateDescription),
             () -> assertThat(template.getQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "template")
                 .isEqualTo(expected)
         );
     }
@@ -91,7 +100,7 @@ public class TemplateServiceTest {
             () -> assertThat(foundTemplate.getTemplateDescription()).isEqualTo(templateDescription),
             () -> assertThat(foundTemplate.getQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "template")
                 .isEqualTo(expected)
         );
     }
@@ -115,6 +124,29 @@ public class TemplateServiceTest {
         assertThat(templates).hasSize(2);
     }
 
+    @Test
+    @DisplayName("템플릿과 질문의 필요한 값만 모두 조회한다.")
+    void findAllTemplateSummaries() {
+        // given
+        Template template1 = saveTemplate("title1", "description1",
+            List.of(new QuestionRequest("question1"), new QuestionRequest("question2")));
+        Template template2 = saveTemplate("title2", "description2",
+            List.of(new QuestionRequest("question3")));
+
+        // when
+        List<TemplateSummary> templates = templateService.findAllSummaries();
+        Map<Long, List<TemplateQuestionSummary>> questions = templateService.findAllQuestionSummaries();
+
+        // then
+        assertAll(
+            () -> assertThat(templates).extracting("templateTitle").containsExactly("title1", "title2"),
+            () -> assertThat(questions.get(template1.getId())).extracting("questionValue")
+                .containsExactly("question1", "question2"),
+            () -> assertThat(questions.get(template2.getId())).extracting("questionValue")
+                .containsExactly("question3")
+        );
+    }
+
     @Test
     @DisplayName("없는 템플릿을 삭제하면 실패한다.")
     void deleteTemplateWithInvalidId() {
@@ -170,8 +202,8 @@ public class TemplateServiceTest {
 
         // when
         List<QuestionUpdateRequest> newQuestions = List.of(
-            new QuestionUpdateRequest(1L, "new question1"),
-            new QuestionUpdateRequest(2L, "question2"),
+            new QuestionUpdateRequest(template.getQuestions().get(0).getId(), "new question1"),
+            new QuestionUpdateRequest(template.getQuestions().get(1).getId(), "question2"),
             new QuestionUpdateRequest(null, "question3"));
 
         templateService.update(template.getId(),
@@ -196,11 +228,78 @@ public class TemplateServiceTest {
             () -> assertThat(updatedTemplate.getTemplateDescription()).isEqualTo("new description"),
             () -> assertThat(updatedTemplate.getQuestions())
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "template")
                 .isEqualTo(expectedReviewFormQuestions)
         );
     }
 
+    @Test
+    @DisplayName("템플릿 수정 시 실행되는 쿼리 수는 질문 수와 무관하다.")
+    void updateTemplateInConstantStatements() {
+        // when
+        long statementsForFewQuestions = countStatementsToUpdateTemplate(2);
+        long statementsForManyQuestions = countStatementsToUpdateTemplate(30);
+
+        // then
+        assertThat(statementsForManyQuestions).isEqualTo(statementsForFewQuestions);
+    }
+
+    @Test
+    @DisplayName("템플릿 저장 시 질문은 템플릿 번호와 함께 한 번에 저장된다.")
+    void saveTemplateWithoutForeignKeyUpdates() {
+        // when
+        long statementsForFewQuestions = HibernateStatistics.countStatements(entityManager,
+            () -> templateService.save(createRequestOf(2)));
+        long statementsForManyQuestions = HibernateStatistics.countStatements(entityManager,
+            () -> templateService.save(createRequestOf(30)));
+
+        // then
+        assertAll(
+            () -> assertThat(statementsForFewQuestions).isEqualTo(2),
+            () -> assertThat(statementsForManyQuestions).isEqualTo(statementsForFewQuestions)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 템플릿의 질문을 수정할 수 없다.")
+    void updateTemplateWithQuestionIdOfOtherTemplate() {
+        // given
+        List<QuestionRequest> questions = List.of(new QuestionRequest("question1"));
+        Template template = saveTemplate("title", "description", questions);
+        Template otherTemplate = saveTemplate("other title", "other description", questions);
+
+        // when, then
+        List<QuestionUpdateRequest> newQuestions = List.of(
+            new QuestionUpdateRequest(otherTemplate.getQuestions().get(0).getId(), "question"));
+
+        assertThatThrownBy(() -> templateService.update(template.getId(),
+            new TemplateUpdateRequest("new title", "new description", newQuestions)))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("존재하지 않는 질문입니다.");
+    }
+
+    private TemplateCreateRequest createRequestOf(int questionCount) {
+        List<QuestionRequest> questions = IntStream.range(0, questionCount)
+            .mapToObj(index -> new QuestionRequest("question" + index))
+            .collect(Collectors.toUnmodifiableList());
+        return new TemplateCreateRequest("title", "description", questions);
+    }
+
+    private long countStatementsToUpdateTemplate(int questionCount) {
+        Template template = templateService.save(createRequestOf(questionCount));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<QuestionUpdateRequest> newQuestions = template.getQuestions().stream()
+            .map(question -> new QuestionUpdateRequest(question.getId(), "new " + question.getValue()))
+            .collect(Collectors.toList());
+        newQuestions.add(0, new QuestionUpdateRequest(null, "first question"));
+        newQuestions.add(new QuestionUpdateRequest(null, "last question"));
+
+        return HibernateStatistics.countStatements(entityManager, () -> templateService.update(template.getId(),
+            new TemplateUpdateRequest("new title", "new description", newQuestions)));
+    }
+
     private List<ReviewFormQuestion> convertRequestToQuestions(List<QuestionRequest> questions) {
         List<ReviewFormQuestion> expected = questions.stream()
             .map(questionRequest -> new ReviewFormQuestion(questionRequest.getQuestionValue()))
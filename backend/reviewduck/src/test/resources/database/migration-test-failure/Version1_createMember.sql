@@ -0,0 +1,7 @@
+# 테스트용 초기 스크립트
+create table member
+(
+    id       bigint       not null,
+    nickname varchar(255) not null,
+    primary key (id)
+);
@@ -0,0 +1,6 @@
+-- 테스트용 실패 스크립트
+insert into member (id, nickname)
+values (1, 'reviewduck');
+
+insert into member (id, nickname)
+values (1, 'reviewduck');
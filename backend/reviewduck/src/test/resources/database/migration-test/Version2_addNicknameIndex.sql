@@ -0,0 +1,6 @@
+-- 테스트용 인덱스 스크립트
+create index member_nickname_index
+    on member (nickname);
+
+insert into member (id, nickname)
+values (1, 'reviewduck');
@@ -0,0 +1,4 @@
+-- 테스트용 사전 조건 스크립트
+select id
+from member
+where id = 1;
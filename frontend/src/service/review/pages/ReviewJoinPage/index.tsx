@@ -18,11 +18,12 @@ function JoinReviewPage() {
   const [reviewFormCode, setReviewFormCode] = useState<string>('');
   const navigate = useNavigate();
 
-  const REVIEW_FORM_CODE_LENGTH = 8;
+  const LEGACY_REVIEW_FORM_CODE_LENGTH = 8;
+  const REVIEW_FORM_CODE_LENGTH = 9;
 
   const checkValidation = (code: string) => {
-    if (code.length !== REVIEW_FORM_CODE_LENGTH) {
-      throw new Error('참여코드는 8자리를 입력해야 합니다.');
+    if (code.length !== REVIEW_FORM_CODE_LENGTH && code.length !== LEGACY_REVIEW_FORM_CODE_LENGTH) {
+      throw new Error('참여코드는 9자리(이전 코드는 8자리)를 입력해야 합니다.');
     }
     /* Q: 알파벳과 숫자로만 이루어져야 하는 등 검사도 해야 할까? */
   };
@@ -46,8 +47,8 @@ function JoinReviewPage() {
         <form onSubmit={onSubmitReviewFormCode}>
           <FieldSet title="참여 코드" description="회고 참여를 위한 코드를 입력해주세요.">
             <TextBox
-              maxLength={8}
-              placeholder="영문과 숫자로 이루어진 코드 8자리를 입력해주세요."
+              maxLength={REVIEW_FORM_CODE_LENGTH}
+              placeholder="영문과 숫자로 이루어진 코드 9자리를 입력해주세요."
               value={reviewFormCode}
               onChange={(event) => setReviewFormCode(event.target.value)}
             />